@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# Compares startup time and memory of the launch modes the Dockerfile can use.
+#
+#   ./mvnw -Paot package -DskipTests              # jar with Spring AOT classes
+#   ./mvnw -Pnative native:compile -DskipTests    # optional, needs GraalVM; adds the "native" mode
+#   scripts/startup-benchmark.sh [runs]
+#
+# Each mode is started <runs> times (default 5) against the configured database and stopped once its
+# readiness probe answers. Reported per mode, as medians: wall time until ready, Spring's own "Started
+# ... in" time, CPU time of all threads (steadier than wall time on a shared machine) and resident set
+# size (VmRSS) when ready. Application arguments for every run can be passed in STARTUP_ARGS, e.g.
+# STARTUP_ARGS="--spring.datasource.url=jdbc:postgresql://db:5432/planify".
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8081}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORK=$ROOT/target/startup-benchmark
+JAR=$(ls "$ROOT"/target/event-manager-service-*.jar 2>/dev/null | grep -v -- '-plain' | head -n 1 || true)
+NATIVE=$ROOT/target/event-manager-service
+READY_URL=http://localhost:$PORT/actuator/health/readiness
+read -r -a EXTRA <<< "${STARTUP_ARGS:-}"
+
+[[ -n "$JAR" ]] || { echo "No jar in target/, run ./mvnw -Paot package -DskipTests first" >&2; exit 1; }
+
+# Same layout as the image: extracted jar, then training runs that record the CDS archives. Each archive
+# is recorded in the mode it is used with, app.jsa for the plain jar and app-aot.jsa for AOT mode.
+prepare() {
+    rm -rf "$WORK"
+    "$JAVA" -Djarmode=tools -jar "$JAR" extract --destination "$WORK" > /dev/null
+    train app.jsa
+    train app-aot.jsa -Dspring.aot.enabled=true
+}
+
+train() {
+    local archive=$1
+    shift
+    (cd "$WORK" && "$JAVA" -XX:ArchiveClassesAtExit="$archive" "$@" -Dspring.context.exit=onRefresh \
+        -Dspring.profiles.active=cds-training -jar "$(basename "$JAR")" > "training-${archive%.jsa}.log" 2>&1) \
+        || { echo "CDS training run failed, see $WORK/training-${archive%.jsa}.log" >&2; exit 1; }
+}
+
+# Run from $WORK: the archive only matches the relative classpath it was recorded with
+command_for() {
+    local app
+    app=$(basename "$JAR")
+    case $1 in
+        jar)     echo "$JAVA -jar $app" ;;
+        cds)     echo "$JAVA -XX:SharedArchiveFile=app.jsa -jar $app" ;;
+        aot-cds) echo "$JAVA -XX:SharedArchiveFile=app-aot.jsa -Dspring.aot.enabled=true -jar $app" ;;
+        native)  echo "$NATIVE" ;;
+    esac
+}
+
+# Prints "<ms until ready> <spring started seconds> <rss kB> <cpu ms>" for one start
+measure() {
+    local log=$WORK/$1.log start pid ms rss cpu started
+    start=$(date +%s%N)
+    # shellcheck disable=SC2046
+    (cd "$WORK" && exec $(command_for "$1") "${EXTRA[@]}") > "$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$READY_URL"; do
+        kill -0 "$pid" 2> /dev/null || { echo "$1 exited during startup, see $log" >&2; exit 1; }
+        sleep 0.05
+    done
+    ms=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(awk '/^VmRSS/ { print $2 }' "/proc/$pid/status")
+    # utime + stime, in clock ticks
+    cpu=$(awk -v hz="$(getconf CLK_TCK)" '{ print int(($14 + $15) * 1000 / hz) }' "/proc/$pid/stat")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    started=$(grep -o 'Started [A-Za-z]* in [0-9.]*' "$log" | awk '{ print $4 }')
+    echo "$ms ${started:-?} $rss $cpu"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2 ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+prepare
+modes=(jar cds aot-cds)
+[[ -x "$NATIVE" ]] && modes+=(native)
+
+printf '%-8s %10s %10s %10s %8s\n' mode ready_ms started_s cpu_ms rss_mb
+for mode in "${modes[@]}"; do
+    results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$mode")")
+    done
+    printf '%-8s %10s %10s %10s %8s\n' "$mode" \
+        "$(printf '%s\n' "${results[@]}" | awk '{ print $1 }' | median)" \
+        "$(printf '%s\n' "${results[@]}" | awk '{ print $2 }' | median)" \
+        "$(printf '%s\n' "${results[@]}" | awk '{ print $4 }' | median)" \
+        "$(printf '%s\n' "${results[@]}" | awk '{ print int($3 / 1024) }' | median)"
+done
@@ -0,0 +1,72 @@
+package com.planify.eventmanager.benchmark;
+
+import com.planify.eventmanager.EventManagerApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Boots the application once per forked benchmark JVM. Runs against a throwaway embedded Postgres
+ * unless {@code -Dbenchmark.datasource.url} (with {@code .username} / {@code .password}) points at
+ * an existing database. Web server, Kafka listeners and the outbox relay stay off so only the
+ * measured call path touches the database.
+ */
+final class BenchmarkContext {
+
+    private static EmbeddedPostgres postgres;
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    static synchronized ConfigurableApplicationContext start() {
+        if (context != null) {
+            return context;
+        }
+
+        String url = System.getProperty("benchmark.datasource.url");
+        String username = System.getProperty("benchmark.datasource.username", "planify");
+        String password = System.getProperty("benchmark.datasource.password", "planify");
+        if (url == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start embedded Postgres", e);
+            }
+            url = postgres.getJdbcUrl("postgres", "postgres");
+            username = "postgres";
+            password = "postgres";
+        }
+
+        // Passed as command-line arguments so they take precedence over application.yaml
+        context = new SpringApplicationBuilder(EventManagerApplication.class)
+            .run("--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--spring.kafka.listener.auto-startup=false",
+                "--planify.outbox.relay-enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.planify=WARN");
+        return context;
+    }
+
+    static synchronized void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+        if (postgres != null) {
+            try {
+                postgres.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to stop embedded Postgres", e);
+            }
+            postgres = null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.planify.eventmanager.benchmark;
+
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixture data shared by the benchmarks. Rows written to the database carry
+ * {@link #ORGANIZER_ID} so teardown can remove them from a shared database.
+ */
+final class BenchmarkData {
+
+    static final long ORGANIZER_ID = -7_000_000L;
+
+    private BenchmarkData() {
+    }
+
+    static Event event(long id) {
+        LocalDateTime date = LocalDateTime.now().plusDays(1 + id % 365);
+        return Event.builder()
+            .id(id)
+            .title("Benchmark event " + id)
+            .description("Fixture event used by the JMH benchmarks")
+            .eventDate(date)
+            .endDate(date.plusHours(3))
+            .locationId(id % 100)
+            .locationName("Hall " + id % 100)
+            .organizerId(ORGANIZER_ID)
+            .maxAttendees(500)
+            .currentAttendees((int) (id % 500))
+            .eventType(Event.EventType.PUBLIC)
+            .status(Event.EventStatus.PUBLISHED)
+            .createdAt(date.minusDays(30))
+            .updatedAt(date.minusDays(1))
+            .build();
+    }
+
+    static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            events.add(event(id));
+        }
+        return events;
+    }
+
+    static List<GuestList> guests(long eventId, int count) {
+        LocalDateTime invitedAt = LocalDateTime.now().minusDays(7);
+        List<GuestList> guests = new ArrayList<>(count);
+        for (long userId = 1; userId <= count; userId++) {
+            boolean accepted = userId % 3 != 0;
+            guests.add(GuestList.builder()
+                .id(userId)
+                .eventId(eventId)
+                .userId(userId)
+                .rsvpStatus(accepted ? GuestList.RsvpStatus.ACCEPTED : GuestList.RsvpStatus.PENDING)
+                .role(userId % 50 == 0 ? GuestList.GuestRole.VIP : GuestList.GuestRole.ATTENDEE)
+                .invitedAt(invitedAt)
+                .respondedAt(accepted ? invitedAt.plusDays(1) : null)
+                .checkedIn(false)
+                .build());
+        }
+        return guests;
+    }
+
+    static long insertEvent(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO events (title, event_date, organizer_id, event_type, status)
+            VALUES ('Benchmark event', now() + interval '30 days', ?, 'PUBLIC', 'PUBLISHED')
+            RETURNING id
+            """, Long.class, ORGANIZER_ID);
+    }
+
+    static void insertUpcomingEvents(JdbcTemplate jdbcTemplate, int count) {
+        jdbcTemplate.update("""
+            INSERT INTO events (title, event_date, organizer_id, event_type, status)
+            SELECT 'Benchmark event ' || n, now() + n * interval '1 minute', ?, 'PUBLIC', 'PUBLISHED'
+            FROM generate_series(1, ?) AS n
+            """, ORGANIZER_ID, count);
+    }
+
+    static void deleteAll(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE message_key IN (SELECT id::text FROM events WHERE organizer_id = ?)", ORGANIZER_ID);
+        jdbcTemplate.update("DELETE FROM guest_list WHERE event_id IN (SELECT id FROM events WHERE organizer_id = ?)", ORGANIZER_ID);
+        jdbcTemplate.update("DELETE FROM events WHERE organizer_id = ?", ORGANIZER_ID);
+    }
+}
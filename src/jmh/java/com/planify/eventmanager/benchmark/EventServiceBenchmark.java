@@ -0,0 +1,73 @@
+package com.planify.eventmanager.benchmark;
+
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.repository.EventRepository;
+import com.planify.eventmanager.service.EventFeedIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upcoming-events feed from the in-memory feed index and straight from the repository,
+ * to show what the index saves at each feed size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventServiceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int eventCount;
+
+    private JdbcTemplate jdbcTemplate;
+    private EventFeedIndex eventFeedIndex;
+    private EventRepository eventRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.start();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        eventFeedIndex = context.getBean(EventFeedIndex.class);
+        eventRepository = context.getBean(EventRepository.class);
+
+        BenchmarkData.insertUpcomingEvents(jdbcTemplate, eventCount);
+        jdbcTemplate.execute("ANALYZE events");
+        eventFeedIndex.refreshChanged();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.deleteAll(jdbcTemplate);
+        BenchmarkContext.stop();
+    }
+
+    // The whole feed rather than EventService's bounded listing, so both sides return eventCount rows
+    @Benchmark
+    public List<Event> getUpcomingEvents() {
+        return eventFeedIndex.upcomingPage(LocalDateTime.now(), null, eventCount);
+    }
+
+    @Benchmark
+    public List<Event> findUpcomingEventsUncached() {
+        return eventRepository.findUpcomingEvents(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,122 @@
+package com.planify.eventmanager.benchmark;
+
+import com.planify.eventmanager.model.GuestList;
+import com.planify.eventmanager.service.EventService;
+import com.planify.eventmanager.service.GuestListService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Guest list write paths against a single event whose guests have all accepted.
+ * Each benchmark method gets a fresh fork, so one method's writes never skew another's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuestListServiceBenchmark {
+
+    private static final int CHECK_INS_PER_ITERATION = 100;
+
+    @Param({"100", "10000", "100000"})
+    public int guestCount;
+
+    private JdbcTemplate jdbcTemplate;
+    private GuestListService guestListService;
+    private long eventId;
+    private AtomicLong nextUserId;
+    // Guests not yet checked in during the current iteration, in random order
+    private long[] checkInOrder;
+    private AtomicInteger nextCheckIn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.start();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        guestListService = context.getBean(GuestListService.class);
+
+        eventId = BenchmarkData.insertEvent(jdbcTemplate);
+        guestListService.inviteGuests(eventId, LongStream.rangeClosed(1, guestCount).boxed().toList(), null, null);
+        jdbcTemplate.update("UPDATE guest_list SET rsvp_status = 'ACCEPTED', responded_at = now() WHERE event_id = ?", eventId);
+        context.getBean(EventService.class).updateAttendeeCount(eventId);
+        nextUserId = new AtomicLong(guestCount + 1L);
+        checkInOrder = LongStream.rangeClosed(1, guestCount).toArray();
+        nextCheckIn = new AtomicInteger();
+    }
+
+    // Only check-ins change checked_in, so the other methods' iterations find nothing to reset
+    @Setup(Level.Iteration)
+    public void resetCheckIns() {
+        if (jdbcTemplate.update("UPDATE guest_list SET checked_in = FALSE, checked_in_at = NULL WHERE event_id = ? AND checked_in", eventId) > 0) {
+            jdbcTemplate.update("UPDATE event_guest_counters SET value = 0 WHERE event_id = ? AND counter = 'checked_in'", eventId);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = checkInOrder.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = checkInOrder[i];
+            checkInOrder[i] = checkInOrder[j];
+            checkInOrder[j] = swap;
+        }
+        nextCheckIn.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.deleteAll(jdbcTemplate);
+        BenchmarkContext.stop();
+    }
+
+    @Benchmark
+    public GuestList updateRsvp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        GuestList.RsvpStatus status = random.nextBoolean() ? GuestList.RsvpStatus.ACCEPTED : GuestList.RsvpStatus.MAYBE;
+        return guestListService.updateRsvp(eventId, randomGuest(), status);
+    }
+
+    @Benchmark
+    public GuestList inviteGuest() {
+        return guestListService.inviteGuest(eventId, nextUserId.getAndIncrement(), GuestList.GuestRole.ATTENDEE, null);
+    }
+
+    /**
+     * Checks in a guest who has not checked in yet, so every call writes. Iterations are fixed batches
+     * of {@value #CHECK_INS_PER_ITERATION} check-ins, the smallest guest count, and report the time
+     * of a whole batch.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = CHECK_INS_PER_ITERATION)
+    @Measurement(iterations = 20, batchSize = CHECK_INS_PER_ITERATION)
+    public GuestList checkInGuest() {
+        int next = nextCheckIn.getAndIncrement();
+        if (next >= checkInOrder.length) {
+            throw new IllegalStateException("Every guest is already checked in");
+        }
+        return guestListService.checkInGuest(eventId, checkInOrder[next]);
+    }
+
+    private long randomGuest() {
+        return ThreadLocalRandom.current().nextLong(1, guestCount + 1L);
+    }
+}
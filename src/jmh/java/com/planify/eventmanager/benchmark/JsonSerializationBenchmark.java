@@ -0,0 +1,81 @@
+package com.planify.eventmanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.planify.eventmanager.config.IsoLocalDateTimeSerializer;
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization for list endpoints in each offered format, with the web layer's tuning
+ * (Blackbird accessors and the fast timestamp serializer) on or off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int rows;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"true", "false"})
+    public boolean tuned;
+
+    private ObjectWriter writer;
+    private List<Event> events;
+    private List<GuestList> guests;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (tuned) {
+            builder.modulesToInstall(BlackbirdModule.class)
+                .serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+        }
+        switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory());
+            case "smile" -> builder.factory(new SmileFactory());
+            default -> { }
+        }
+        writer = builder.build().writer();
+        events = BenchmarkData.events(rows);
+        guests = BenchmarkData.guests(1L, rows);
+    }
+
+    @Benchmark
+    public byte[] serializeEvents() throws JsonProcessingException {
+        return writer.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeGuests() throws JsonProcessingException {
+        return writer.writeValueAsBytes(guests);
+    }
+}
@@ -0,0 +1,22 @@
+package com.planify.eventmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the migrations on startup unless {@code planify.flyway.migrate-on-startup} is false. Unlike
+ * {@code spring.flyway.enabled}, which AOT mode evaluates once at build time, the property is read when
+ * the context starts, so it also applies with {@code -Dspring.aot.enabled=true}.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${planify.flyway.migrate-on-startup:true}") boolean migrate) {
+        return flyway -> {
+            if (migrate) flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.planify.eventmanager.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link LocalDateTime} exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does
+ * ({@code 2026-05-01T18:30:00}, fraction without trailing zeros) but digit by digit, without a
+ * formatter's per-field lookups. Guest lists carry up to four timestamps per row, so the formatter
+ * dominated their serialization. Explicit {@code @JsonFormat} patterns, numeric timestamps and years
+ * outside 0-9999 fall back to the standard serializer.
+ */
+public class IsoLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    public IsoLocalDateTimeSerializer() {
+        super();
+    }
+
+    private IsoLocalDateTimeSerializer(IsoLocalDateTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds,
+                                       DateTimeFormatter formatter) {
+        super(base, useTimestamp, useNanoseconds, formatter);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (_formatter != null || value.getYear() < 0 || value.getYear() > 9999 || useTimestamp(provider)) {
+            super.serialize(value, generator, provider);
+            return;
+        }
+        char[] text = new char[MAX_LENGTH];
+        int length = format(value, text);
+        generator.writeString(text, 0, length);
+    }
+
+    // Keep the fast path for properties contextualized without a pattern of their own
+    @Override
+    protected IsoLocalDateTimeSerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter, JsonFormat.Shape shape) {
+        return new IsoLocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, formatter);
+    }
+
+    @Override
+    protected IsoLocalDateTimeSerializer withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
+        return new IsoLocalDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
+    }
+
+    /**
+     * Writes {@code value} (year 0-9999) into {@code text} and returns the number of characters.
+     */
+    static int format(LocalDateTime value, char[] text) {
+        int year = value.getYear();
+        text[0] = digit(year / 1000);
+        text[1] = digit(year / 100 % 10);
+        text[2] = digit(year / 10 % 10);
+        text[3] = digit(year % 10);
+        text[4] = '-';
+        twoDigits(value.getMonthValue(), text, 5);
+        text[7] = '-';
+        twoDigits(value.getDayOfMonth(), text, 8);
+        text[10] = 'T';
+        twoDigits(value.getHour(), text, 11);
+        text[13] = ':';
+        twoDigits(value.getMinute(), text, 14);
+        text[16] = ':';
+        twoDigits(value.getSecond(), text, 17);
+
+        int nano = value.getNano();
+        if (nano == 0) return 19;
+        text[19] = '.';
+        int length = 29;
+        for (int i = 28; i > 19; i--) {
+            int digit = nano % 10;
+            nano /= 10;
+            // Trailing zeros are dropped, as the formatter does
+            if (digit == 0 && length == i + 1) {
+                length = i;
+            } else {
+                text[i] = digit(digit);
+            }
+        }
+        return length;
+    }
+
+    private static void twoDigits(int value, char[] text, int offset) {
+        text[offset] = digit(value / 10);
+        text[offset + 1] = digit(value % 10);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
@@ -0,0 +1,78 @@
+package com.planify.eventmanager.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.planify.eventmanager.dto.EventSummary;
+import com.planify.eventmanager.dto.GuestSummary;
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks the event and guest representations with the {@value #FIELDS_FILTER} property filter so
+ * responses can be trimmed to the fields a client asks for (see
+ * {@link com.planify.eventmanager.controller.SparseFieldsAdvice}). Without a request-specific filter
+ * every property is written, so Kafka payloads and unfiltered responses are unchanged.
+ * <p>
+ * Serialization is tuned for large lists: Blackbird replaces reflective property access with
+ * generated lambdas, and {@link IsoLocalDateTimeSerializer} writes timestamps without a formatter.
+ * Besides JSON, responses are offered as CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) to clients that ask for them, built from the same settings.
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final String FIELDS_FILTER = "fields";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder
+            .mixIn(Event.class, FieldsFilterMixin.class)
+            .mixIn(GuestList.class, FieldsFilterMixin.class)
+            .mixIn(EventSummary.class, FieldsFilterMixin.class)
+            .mixIn(GuestSummary.class, FieldsFilterMixin.class)
+            .filters(new SimpleFilterProvider().addFilter(FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer timestampCustomizer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+
+    // Blackbird defines classes at runtime, which a native image cannot, so it is left to the JVM
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer() {
+        return builder -> {
+            if (!NativeDetector.inNativeImage()) {
+                builder.postConfigurer(mapper -> mapper.registerModule(new BlackbirdModule()));
+            }
+        };
+    }
+
+    // The builder is a prototype with all customizers applied, so each converter gets its own copy
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @JsonFilter(FIELDS_FILTER)
+    private interface FieldsFilterMixin {
+    }
+}
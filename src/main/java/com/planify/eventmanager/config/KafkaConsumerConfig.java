@@ -0,0 +1,53 @@
+package com.planify.eventmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Batch listener container used by {@link com.planify.eventmanager.event.KafkaConsumer}. Offsets are
+ * committed only when a listener acknowledges an applied batch; a batch that keeps failing is retried
+ * with backoff and then published to {@code <topic>.DLT}.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String BATCH_FACTORY = "batchListenerContainerFactory";
+
+    @Bean(BATCH_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<String, String> kafkaTemplate,
+            @Value("${planify.kafka.batch.concurrency}") int concurrency,
+            @Value("${planify.kafka.batch.max-poll-records}") int maxPollRecords,
+            @Value("${planify.kafka.batch.retry-max-elapsed}") Duration retryMaxElapsed) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        Properties consumerProperties = new Properties();
+        consumerProperties.setProperty("max.poll.records", String.valueOf(maxPollRecords));
+        containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(500L, 2.0);
+        backOff.setMaxInterval(10_000L);
+        backOff.setMaxElapsedTime(retryMaxElapsed.toMillis());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new DeadLetterPublishingRecoverer(kafkaTemplate), backOff));
+        return factory;
+    }
+}
@@ -0,0 +1,41 @@
+package com.planify.eventmanager.config;
+
+import com.planify.eventmanager.dto.EventSummary;
+import com.planify.eventmanager.dto.GuestSummary;
+import com.planify.eventmanager.dto.UserEvent;
+import com.planify.eventmanager.event.DomainEvent;
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection a native image cannot discover on its own. Controller signatures are covered by Spring's
+ * AOT processing, but entities and projections are also written by hand (NDJSON streams), and Kafka
+ * envelopes are serialized to strings in the outbox, so their Jackson bindings are registered here.
+ * Kafka clients, Hibernate, Caffeine and the PostgreSQL driver bring their own metadata.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageHints.Registrar.class)
+public class NativeImageHints {
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            bindings.registerReflectionHints(hints.reflection(),
+                // Responses and NDJSON rows
+                Event.class, GuestList.class, EventSummary.class, GuestSummary.class, UserEvent.class,
+                // Outbox messages
+                DomainEvent.class, DomainEvent.EventPayload.class, DomainEvent.GuestPayload.class);
+            // Jackson reads the @JsonFilter annotation off the mix-in
+            hints.reflection().registerType(TypeReference.of(JacksonConfig.class.getName() + "$FieldsFilterMixin"));
+        }
+    }
+}
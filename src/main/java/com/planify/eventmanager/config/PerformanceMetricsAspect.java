@@ -0,0 +1,99 @@
+package com.planify.eventmanager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public {@code EventService} and {@code GuestListService} method
+ * ({@code planify.service.duration}) and every repository call ({@code planify.repository.duration}),
+ * tagged with the endpoint being served (see {@link RequestMetricsConfig#endpoint()}). Repository
+ * calls returning collections, pages or optionals also record their size as
+ * {@code planify.repository.rows}. Histogram buckets for percentiles are enabled under
+ * {@code management.metrics.distribution}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class PerformanceMetricsAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.planify.eventmanager.repository";
+
+    private final MeterRegistry meterRegistry;
+
+    // Spring Data proxies implement the repository interface; resolved once per proxy class
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.planify.eventmanager.service.EventService.*(..))"
+        + " || execution(public * com.planify.eventmanager.service.GuestListService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return timed("planify.service.duration", "service", service, joinPoint);
+    }
+
+    @Around("execution(public * com.planify.eventmanager.repository..*.*(..))"
+        + " || execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), PerformanceMetricsAspect::repositoryName);
+        Object result = timed("planify.repository.duration", "repository", repository, joinPoint);
+        OptionalInt rows = rows(result);
+        if (rows.isPresent()) {
+            DistributionSummary.builder("planify.repository.rows")
+                .description("Rows returned per repository call")
+                .tag("repository", repository)
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("endpoint", RequestMetricsConfig.endpoint())
+                .register(meterRegistry)
+                .record(rows.getAsInt());
+        }
+        return result;
+    }
+
+    private Object timed(String name, String componentTag, String component, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                .tag(componentTag, component)
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("endpoint", RequestMetricsConfig.endpoint())
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+
+    private static String repositoryName(Class<?> type) {
+        return ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+            .filter(candidate -> candidate.getPackageName().equals(REPOSITORY_PACKAGE))
+            .map(Class::getSimpleName)
+            .findFirst()
+            .orElseGet(() -> ClassUtils.getUserClass(type).getSimpleName());
+    }
+
+    // Streams are consumed after the call returns, and counts or flags are not rows
+    private static OptionalInt rows(Object result) {
+        if (result instanceof Collection<?> collection) return OptionalInt.of(collection.size());
+        if (result instanceof Map<?, ?> map) return OptionalInt.of(map.size());
+        if (result instanceof Slice<?> slice) return OptionalInt.of(slice.getNumberOfElements());
+        if (result instanceof Optional<?> optional) return OptionalInt.of(optional.isPresent() ? 1 : 0);
+        return OptionalInt.empty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.planify.eventmanager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-request instrumentation: the {@code endpoint} tag shared by the service and repository timers
+ * (see {@link PerformanceMetricsAspect}) and {@code planify.hibernate.statements}, the number of SQL
+ * statements Hibernate prepared while serving a request. A request exceeding
+ * {@code planify.metrics.statement-warn-threshold} is logged, as it usually means an N+1 query.
+ */
+@Configuration
+@Slf4j
+public class RequestMetricsConfig implements WebMvcConfigurer {
+
+    static final String NO_ENDPOINT = "none";
+
+    private static final String STATEMENTS_ATTRIBUTE = RequestMetricsConfig.class.getName() + ".statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementWarnThreshold;
+
+    public RequestMetricsConfig(MeterRegistry meterRegistry,
+                                @Value("${planify.metrics.statement-warn-threshold}") int statementWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    /**
+     * The method and route template of the request being served on this thread, e.g.
+     * {@code PUT /api/guests/event/{eventId}/user/{userId}/rsvp}, or {@value #NO_ENDPOINT} for work
+     * outside requests such as Kafka listeners and scheduled jobs.
+     */
+    public static String endpoint() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return NO_ENDPOINT;
+        }
+        return endpoint(attributes.getRequest());
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : NO_ENDPOINT;
+    }
+
+    // Kept when a test supplies its own inspector through spring.jpa.properties
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                request.setAttribute(STATEMENTS_ATTRIBUTE, new AtomicInteger());
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                        Exception ex) {
+                if (!(request.getAttribute(STATEMENTS_ATTRIBUTE) instanceof AtomicInteger statements)) return;
+                String endpoint = endpoint(request);
+                DistributionSummary.builder("planify.hibernate.statements")
+                    .description("SQL statements Hibernate prepared per request")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .record(statements.get());
+                if (statements.get() > statementWarnThreshold) {
+                    log.warn("{} issued {} SQL statements", endpoint, statements.get());
+                }
+            }
+        });
+    }
+
+    private static class StatementCounter implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes != null
+                    && attributes.getAttribute(STATEMENTS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AtomicInteger statements) {
+                statements.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.planify.eventmanager.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Enables {@link RetryOnConflict} and counts every attempt lost to a conflict as
+ * {@code planify.concurrency.conflicts}.
+ */
+@Configuration
+@EnableRetry
+@Slf4j
+public class RetryConfig {
+
+    @Bean
+    public RetryListener conflictMetricsListener(MeterRegistry meterRegistry) {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+                // Called for every exception, including the ones that are never retried
+                if (!(throwable instanceof ConcurrencyFailureException)) return;
+                Counter.builder("planify.concurrency.conflicts")
+                    .description("Attempts that lost an optimistic version check or lock conflict")
+                    .tag("exception", throwable.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+                log.debug("Attempt {} failed on conflict: {}", context.getRetryCount(), throwable.getMessage());
+            }
+        };
+    }
+}
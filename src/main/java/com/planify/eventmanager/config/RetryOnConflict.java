@@ -0,0 +1,26 @@
+package com.planify.eventmanager.config;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs a {@code @Transactional} service method in a new transaction when it loses an optimistic
+ * version check or a lock conflict, up to {@code planify.concurrency.retry-max-attempts} attempts
+ * with jittered exponential backoff. The retry advice is ordered outside the transaction advice.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+    retryFor = ConcurrencyFailureException.class,
+    maxAttemptsExpression = "${planify.concurrency.retry-max-attempts}",
+    backoff = @Backoff(delayExpression = "${planify.concurrency.retry-backoff-ms}", multiplier = 2, random = true))
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,118 @@
+package com.planify.eventmanager.controller;
+
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.repository.EventBulkRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+import com.planify.eventmanager.service.EventService;
+import com.planify.eventmanager.service.GuestListService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GETs. ETags and {@code Last-Modified} come from version metadata that is cheaper to
+ * get than the resource (the event row's version columns, the guest-list version counter), so a poll whose
+ * {@code If-None-Match} or {@code If-Modified-Since} still matches is answered with 304 before the
+ * resource is read. Validators are set on the response either way.
+ * <p>
+ * Responses are negotiated between JSON, CBOR and Smile, so every one varies by {@code Accept} and
+ * each format gets its own ETag. ETags are weak: the same representation may be sent gzipped or not,
+ * and Tomcat does not compress responses carrying a strong ETag.
+ */
+@Component
+public class ConditionalResponses {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final EventService eventService;
+    private final GuestListService guestListService;
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final CacheControl feedCacheControl;
+
+    // Lazy so that contexts started without MVC, like the benchmarks', still start
+    public ConditionalResponses(EventService eventService, GuestListService guestListService,
+                                @Lazy ContentNegotiationManager contentNegotiationManager,
+                                @Value("${planify.http.feed-max-age}") Duration feedMaxAge) {
+        this.eventService = eventService;
+        this.guestListService = guestListService;
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.feedCacheControl = CacheControl.maxAge(feedMaxAge).cachePublic();
+    }
+
+    /**
+     * Validators come from the event row, since the cached event misses attendee count changes made on
+     * other replicas; {@code body} gets the event at least as new as they are.
+     */
+    public <T> ResponseEntity<T> event(Long eventId, WebRequest request, Function<Event, T> body) {
+        EventBulkRepository.Version version = eventService.getEventVersion(eventId);
+        long lastModified = epochMillis(version.updatedAt());
+        String etag = "e" + eventId + "." + version.value() + "." + lastModified;
+        return conditional(request, etag, lastModified, () -> body.apply(eventService.getEventById(eventId, version)));
+    }
+
+    public <T> ResponseEntity<T> guestList(Long eventId, WebRequest request, Supplier<T> body) {
+        GuestCounterRepository.Version version = guestListService.getGuestListVersion(eventId);
+        return conditional(request, "g" + eventId + "." + version.value(), epochMillis(version.updatedAt()), body);
+    }
+
+    /**
+     * Feeds are served from the in-memory index and may be reused by shared caches for
+     * {@code planify.http.feed-max-age}.
+     */
+    public <T> ResponseEntity<T> feed(T body) {
+        return ResponseEntity.ok().cacheControl(feedCacheControl).varyBy(HttpHeaders.ACCEPT).body(body);
+    }
+
+    private <T> ResponseEntity<T> conditional(WebRequest request, String tag, long lastModified, Supplier<T> body) {
+        String etag = "W/\"" + tag + format(request) + "\"";
+        // Set here rather than on the entity so that 304s carry it too
+        HttpServletResponse response = ((NativeWebRequest) request).getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        // checkNotModified sets the 304 status itself; a null body writes nothing
+        if (request.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        return ResponseEntity.ok(body.get());
+    }
+
+    /**
+     * ETag suffix of the format the response will be written in. Mirrors converter selection: the
+     * first acceptable type wins, and JSON is preferred where several formats would do.
+     */
+    private String format(WebRequest request) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.resolveMediaTypes((NativeWebRequest) request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return "";
+        }
+        for (MediaType type : acceptable) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) return "";
+            if (type.isCompatibleWith(SMILE)) return ".smile";
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) return ".cbor";
+        }
+        return "";
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -1,14 +1,24 @@
 package com.planify.eventmanager.controller;
 
+import com.planify.eventmanager.dto.BatchStatusRequest;
+import com.planify.eventmanager.dto.BatchStatusResult;
+import com.planify.eventmanager.dto.CursorPage;
+import com.planify.eventmanager.dto.EventSearchFilters;
+import com.planify.eventmanager.dto.View;
 import com.planify.eventmanager.model.Event;
 import com.planify.eventmanager.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,6 +30,8 @@ import java.util.List;
 public class EventController {
     
     private final EventService eventService;
+    private final NdjsonResponses ndjsonResponses;
+    private final ConditionalResponses conditionalResponses;
     
     // CRUD Operations    
     @GetMapping
@@ -28,10 +40,16 @@ public class EventController {
         return ResponseEntity.ok(eventService.getAllEvents());
     }
     
+    @GetMapping("/batch")
+    @Operation(summary = "Get many events by ID in one call, in the order requested; unknown IDs are left out")
+    public ResponseEntity<List<Event>> getEventsByIds(@RequestParam @Size(min = 1, max = 500) List<Long> ids) {
+        return ResponseEntity.ok(eventService.getEventsByIds(ids));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get event by ID")
-    public ResponseEntity<Event> getEventById(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    public ResponseEntity<Event> getEventById(@PathVariable Long id, WebRequest request) {
+        return conditionalResponses.event(id, request, event -> event);
     }
     
     @PostMapping
@@ -59,8 +77,12 @@ public class EventController {
     // Query Operations    
     @GetMapping("/organizer/{organizerId}")
     @Operation(summary = "Get events by organizer ID")
-    public ResponseEntity<List<Event>> getEventsByOrganizer(@PathVariable Long organizerId) {
-        return ResponseEntity.ok(eventService.getEventsByOrganizer(organizerId));
+    public ResponseEntity<List<?>> getEventsByOrganizer(
+            @PathVariable Long organizerId,
+            @RequestParam(defaultValue = "DETAIL") View view) {
+        return ResponseEntity.ok(view == View.SUMMARY
+            ? eventService.getEventSummariesByOrganizer(organizerId)
+            : eventService.getEventsByOrganizer(organizerId));
     }
     
     @GetMapping("/status/{status}")
@@ -70,15 +92,19 @@ public class EventController {
     }
     
     @GetMapping("/public")
-    @Operation(summary = "Get all public events")
-    public ResponseEntity<List<Event>> getPublicEvents() {
-        return ResponseEntity.ok(eventService.getPublicEvents());
+    @Operation(summary = "Get published public events that have not ended, up to planify.feed.listing-limit (see /public/page)")
+    public ResponseEntity<List<?>> getPublicEvents(@RequestParam(defaultValue = "DETAIL") View view) {
+        return conditionalResponses.feed(view == View.SUMMARY
+            ? eventService.getPublicEventSummaries()
+            : eventService.getPublicEvents());
     }
     
     @GetMapping("/upcoming")
-    @Operation(summary = "Get upcoming events")
-    public ResponseEntity<List<Event>> getUpcomingEvents() {
-        return ResponseEntity.ok(eventService.getUpcomingEvents());
+    @Operation(summary = "Get upcoming published events, up to planify.feed.listing-limit (see /upcoming/page)")
+    public ResponseEntity<List<?>> getUpcomingEvents(@RequestParam(defaultValue = "DETAIL") View view) {
+        return conditionalResponses.feed(view == View.SUMMARY
+            ? eventService.getUpcomingEventSummaries()
+            : eventService.getUpcomingEvents());
     }
     
     @GetMapping("/past")
@@ -87,6 +113,71 @@ public class EventController {
         return ResponseEntity.ok(eventService.getPastEvents());
     }
     
+    // Paginated and Streaming Listings
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of all events ordered by date (keyset pagination)")
+    public ResponseEntity<CursorPage<Event>> getEventsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(eventService.getEventsPage(cursor, limit));
+    }
+    
+    @GetMapping("/public/page")
+    @Operation(summary = "Get a page of public events ordered by date (keyset pagination)")
+    public ResponseEntity<CursorPage<Event>> getPublicEventsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return conditionalResponses.feed(eventService.getPublicEventsPage(cursor, limit));
+    }
+    
+    @GetMapping("/upcoming/page")
+    @Operation(summary = "Get a page of upcoming published events ordered by date (keyset pagination)")
+    public ResponseEntity<CursorPage<Event>> getUpcomingEventsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return conditionalResponses.feed(eventService.getUpcomingEventsPage(cursor, limit));
+    }
+    
+    @GetMapping("/past/page")
+    @Operation(summary = "Get a page of past events, most recent first (keyset pagination)")
+    public ResponseEntity<CursorPage<Event>> getPastEventsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(eventService.getPastEventsPage(cursor, limit));
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "Search events by title, location and description, best match first (keyset pagination)")
+    public ResponseEntity<CursorPage<Event>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(required = false) Event.EventStatus status,
+            @RequestParam(required = false) Event.EventType eventType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(eventService.searchEvents(q,
+            new EventSearchFilters(status, eventType, start, end), cursor, limit));
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all events as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamAllEvents() {
+        return ndjsonResponses.stream(eventService::streamAllEvents);
+    }
+    
+    @GetMapping(value = "/public/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream public events as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamPublicEvents() {
+        return ndjsonResponses.stream(eventService::streamPublicEvents);
+    }
+    
+    @GetMapping(value = "/past/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream past events as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamPastEvents() {
+        return ndjsonResponses.stream(eventService::streamPastEvents);
+    }
+    
     @GetMapping("/date-range")
     @Operation(summary = "Get events by date range")
     public ResponseEntity<List<Event>> getEventsByDateRange(
@@ -120,11 +211,29 @@ public class EventController {
         return ResponseEntity.ok(eventService.completeEvent(id));
     }
     
+    @PutMapping("/batch/publish")
+    @Operation(summary = "Publish many events; those that do not exist or cannot be published are skipped")
+    public ResponseEntity<BatchStatusResult> publishEvents(@Valid @RequestBody BatchStatusRequest request) {
+        return ResponseEntity.ok(eventService.publishEvents(request.eventIds()));
+    }
+    
+    @PutMapping("/batch/cancel")
+    @Operation(summary = "Cancel many events; those that do not exist or cannot be cancelled are skipped")
+    public ResponseEntity<BatchStatusResult> cancelEvents(@Valid @RequestBody BatchStatusRequest request) {
+        return ResponseEntity.ok(eventService.cancelEvents(request.eventIds()));
+    }
+    
+    @PutMapping("/batch/complete")
+    @Operation(summary = "Complete many published events; all others are skipped")
+    public ResponseEntity<BatchStatusResult> completeEvents(@Valid @RequestBody BatchStatusRequest request) {
+        return ResponseEntity.ok(eventService.completeEvents(request.eventIds()));
+    }
+    
     // Statistics    
     @GetMapping("/{id}/is-full")
     @Operation(summary = "Check if event is full")
-    public ResponseEntity<Boolean> isEventFull(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.isEventFull(id));
+    public ResponseEntity<Boolean> isEventFull(@PathVariable Long id, WebRequest request) {
+        return conditionalResponses.event(id, request, eventService::isEventFull);
     }
     
     @GetMapping("/organizer/{organizerId}/count")
@@ -1,13 +1,29 @@
 package com.planify.eventmanager.controller;
 
+import com.planify.eventmanager.dto.BatchCheckInRequest;
+import com.planify.eventmanager.dto.BatchCheckInResult;
+import com.planify.eventmanager.dto.BulkInviteRequest;
+import com.planify.eventmanager.dto.BulkInviteResult;
+import com.planify.eventmanager.dto.CheckInResult;
+import com.planify.eventmanager.dto.CheckInSessionStatus;
+import com.planify.eventmanager.dto.CursorPage;
+import com.planify.eventmanager.dto.GuestStats;
+import com.planify.eventmanager.dto.UserEvent;
+import com.planify.eventmanager.dto.View;
 import com.planify.eventmanager.model.GuestList;
+import com.planify.eventmanager.service.CheckInService;
 import com.planify.eventmanager.service.GuestListService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,12 +34,36 @@ import java.util.List;
 public class GuestListController {
     
     private final GuestListService guestListService;
+    private final CheckInService checkInService;
+    private final ConditionalResponses conditionalResponses;
+    private final NdjsonResponses ndjsonResponses;
     
     // Guest Management
     @GetMapping("/event/{eventId}")
     @Operation(summary = "Get all guests for an event")
-    public ResponseEntity<List<GuestList>> getAllGuestsForEvent(@PathVariable Long eventId) {
-        return ResponseEntity.ok(guestListService.getAllGuestsForEvent(eventId));
+    public ResponseEntity<List<?>> getAllGuestsForEvent(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "DETAIL") View view,
+            WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> view == View.SUMMARY
+            ? guestListService.getGuestSummariesForEvent(eventId)
+            : guestListService.getAllGuestsForEvent(eventId));
+    }
+    
+    @GetMapping("/event/{eventId}/page")
+    @Operation(summary = "Get a page of guests for an event (keyset pagination)")
+    public ResponseEntity<CursorPage<GuestList>> getGuestsForEventPage(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.getGuestsForEventPage(eventId, cursor, limit));
+    }
+    
+    @GetMapping(value = "/event/{eventId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all guests for an event as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamGuestsForEvent(@PathVariable Long eventId) {
+        return ndjsonResponses.<GuestList>stream(consumer -> guestListService.streamGuestsForEvent(eventId, consumer));
     }
     
     @GetMapping("/user/{userId}")
@@ -32,12 +72,24 @@ public class GuestListController {
         return ResponseEntity.ok(guestListService.getAllEventsForUser(userId));
     }
     
+    @GetMapping("/user/{userId}/events")
+    @Operation(summary = "Get a page of a user's upcoming or past events with their RSVP, role and check-in (keyset pagination)")
+    public ResponseEntity<CursorPage<UserEvent>> getEventsForUserPage(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "UPCOMING") UserEvent.Timeframe timeframe,
+            @RequestParam(required = false) GuestList.RsvpStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(guestListService.getEventsForUserPage(userId, timeframe, status, cursor, limit));
+    }
+    
     @GetMapping("/event/{eventId}/user/{userId}")
     @Operation(summary = "Get specific guest entry")
     public ResponseEntity<GuestList> getGuestEntry(
             @PathVariable Long eventId, 
-            @PathVariable Long userId) {
-        return ResponseEntity.ok(guestListService.getGuestEntry(eventId, userId));
+            @PathVariable Long userId,
+            WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.getGuestEntry(eventId, userId));
     }
     
     @PostMapping("/invite")
@@ -51,6 +103,13 @@ public class GuestListController {
             .body(guestListService.inviteGuest(eventId, userId, role, notes));
     }
     
+    @PostMapping("/invite/bulk")
+    @Operation(summary = "Invite many guests to an event, skipping users already invited")
+    public ResponseEntity<BulkInviteResult> inviteGuests(@Valid @RequestBody BulkInviteRequest request) {
+        return ResponseEntity.ok(guestListService.inviteGuests(
+            request.eventId(), request.userIds(), request.role(), request.notes()));
+    }
+    
     @DeleteMapping("/event/{eventId}/user/{userId}")
     @Operation(summary = "Remove guest from event")
     public ResponseEntity<Void> removeGuest(
@@ -97,31 +156,76 @@ public class GuestListController {
     
     @GetMapping("/event/{eventId}/checked-in")
     @Operation(summary = "Get checked-in guests")
-    public ResponseEntity<List<GuestList>> getCheckedInGuests(@PathVariable Long eventId) {
-        return ResponseEntity.ok(guestListService.getCheckedInGuests(eventId));
+    public ResponseEntity<List<GuestList>> getCheckedInGuests(@PathVariable Long eventId, WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.getCheckedInGuests(eventId));
     }
     
     @GetMapping("/event/{eventId}/checked-in/count")
     @Operation(summary = "Count checked-in guests")
-    public ResponseEntity<Long> countCheckedInGuests(@PathVariable Long eventId) {
-        return ResponseEntity.ok(guestListService.countCheckedInGuests(eventId));
+    public ResponseEntity<Long> countCheckedInGuests(@PathVariable Long eventId, WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.countCheckedInGuests(eventId));
+    }
+    
+    // Check-in Sessions
+    @PostMapping("/event/{eventId}/check-in/session")
+    @Operation(summary = "Open a check-in session, preloading accepted guests for fast scanning")
+    public ResponseEntity<CheckInSessionStatus> openCheckInSession(@PathVariable Long eventId) {
+        return ResponseEntity.ok(checkInService.openSession(eventId));
+    }
+    
+    @GetMapping("/event/{eventId}/check-in/session")
+    @Operation(summary = "Get check-in session status")
+    public ResponseEntity<CheckInSessionStatus> getCheckInSession(@PathVariable Long eventId) {
+        return ResponseEntity.ok(checkInService.getSessionStatus(eventId));
+    }
+    
+    @DeleteMapping("/event/{eventId}/check-in/session")
+    @Operation(summary = "Close a check-in session, writing any pending check-ins")
+    public ResponseEntity<CheckInSessionStatus> closeCheckInSession(@PathVariable Long eventId) {
+        return ResponseEntity.ok(checkInService.closeSession(eventId));
+    }
+    
+    @PostMapping("/event/{eventId}/check-in/scan/{userId}")
+    @Operation(summary = "Check in a scanned guest",
+        description = "Answered once the check-in has committed; in a session that is after the next batched write")
+    public ResponseEntity<CheckInResult> scanCheckIn(
+            @PathVariable Long eventId,
+            @PathVariable Long userId) {
+        return ResponseEntity.ok(checkInService.checkIn(eventId, userId));
+    }
+    
+    @PostMapping("/event/{eventId}/check-in/batch")
+    @Operation(summary = "Upload a batch of scans, e.g. from an offline scanner",
+        description = "Answered once every check-in in the batch has committed")
+    public ResponseEntity<BatchCheckInResult> batchCheckIn(
+            @PathVariable Long eventId,
+            @Valid @RequestBody BatchCheckInRequest request) {
+        return ResponseEntity.ok(checkInService.checkInBatch(eventId, request.scans()));
     }
     
     // Query Operations    
+    @GetMapping("/event/{eventId}/waitlist")
+    @Operation(summary = "Get the event waitlist in promotion order")
+    public ResponseEntity<List<GuestList>> getWaitlist(@PathVariable Long eventId, WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.getWaitlist(eventId));
+    }
+    
     @GetMapping("/event/{eventId}/status/{status}")
     @Operation(summary = "Get guests by RSVP status")
     public ResponseEntity<List<GuestList>> getGuestsByStatus(
             @PathVariable Long eventId,
-            @PathVariable GuestList.RsvpStatus status) {
-        return ResponseEntity.ok(guestListService.getGuestsByStatus(eventId, status));
+            @PathVariable GuestList.RsvpStatus status,
+            WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.getGuestsByStatus(eventId, status));
     }
     
     @GetMapping("/event/{eventId}/role/{role}")
     @Operation(summary = "Get guests by role")
     public ResponseEntity<List<GuestList>> getGuestsByRole(
             @PathVariable Long eventId,
-            @PathVariable GuestList.GuestRole role) {
-        return ResponseEntity.ok(guestListService.getGuestsByRole(eventId, role));
+            @PathVariable GuestList.GuestRole role,
+            WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.getGuestsByRole(eventId, role));
     }
     
     @GetMapping("/event/{eventId}/user/{userId}/invited")
@@ -135,15 +239,35 @@ public class GuestListController {
     // Statistics
     @GetMapping("/event/{eventId}/count")
     @Operation(summary = "Count total guests")
-    public ResponseEntity<Long> countTotalGuests(@PathVariable Long eventId) {
-        return ResponseEntity.ok(guestListService.countTotalGuests(eventId));
+    public ResponseEntity<Long> countTotalGuests(@PathVariable Long eventId, WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.countTotalGuests(eventId));
     }
     
     @GetMapping("/event/{eventId}/status/{status}/count")
     @Operation(summary = "Count guests by status")
     public ResponseEntity<Long> countGuestsByStatus(
             @PathVariable Long eventId,
-            @PathVariable GuestList.RsvpStatus status) {
-        return ResponseEntity.ok(guestListService.countGuestsByStatus(eventId, status));
+            @PathVariable GuestList.RsvpStatus status,
+            WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.countGuestsByStatus(eventId, status));
+    }
+    
+    @GetMapping("/event/{eventId}/stats")
+    @Operation(summary = "Get guest statistics (RSVP status, role and check-in counts)")
+    public ResponseEntity<GuestStats> getGuestStats(@PathVariable Long eventId, WebRequest request) {
+        return conditionalResponses.guestList(eventId, request, () -> guestListService.getGuestStats(eventId));
+    }
+    
+    @GetMapping("/stats")
+    @Operation(summary = "Get guest statistics for several events")
+    public ResponseEntity<List<GuestStats>> getGuestStatsForEvents(
+            @RequestParam @Size(min = 1, max = 500) List<Long> eventIds) {
+        return ResponseEntity.ok(guestListService.getGuestStats(eventIds));
+    }
+    
+    @GetMapping("/organizer/{organizerId}/stats")
+    @Operation(summary = "Get guest statistics for all events of an organizer")
+    public ResponseEntity<List<GuestStats>> getGuestStatsForOrganizer(@PathVariable Long organizerId) {
+        return ResponseEntity.ok(guestListService.getGuestStatsForOrganizer(organizerId));
     }
-}
\ No newline at end of file
+}
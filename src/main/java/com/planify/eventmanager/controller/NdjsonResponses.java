@@ -0,0 +1,45 @@
+package com.planify.eventmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes a row source as newline-delimited JSON, one object per line, without
+ * materializing the result set.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonResponses {
+    
+    private static final int FLUSH_EVERY = 500;
+    
+    private final ObjectMapper objectMapper;
+    
+    public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+                int[] written = {0};
+                source.accept(row -> {
+                    try {
+                        writer.write(row);
+                        if (++written[0] % FLUSH_EVERY == 0) writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
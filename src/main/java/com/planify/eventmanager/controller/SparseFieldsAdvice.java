@@ -0,0 +1,40 @@
+package com.planify.eventmanager.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.planify.eventmanager.config.JacksonConfig;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Sparse responses: {@code ?fields=id,title,eventDate} limits every event and guest object in a JSON
+ * response to the listed properties. Unknown names are ignored; wrapper objects such as
+ * {@link com.planify.eventmanager.dto.CursorPage} keep all of theirs.
+ */
+@RestControllerAdvice(basePackageClasses = SparseFieldsAdvice.class)
+public class SparseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) return;
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAM);
+        if (!StringUtils.hasText(fields)) return;
+
+        Set<String> names = StringUtils.commaDelimitedListToSet(fields.replace(" ", ""));
+        bodyContainer.setFilters(new SimpleFilterProvider()
+            .addFilter(JacksonConfig.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+    }
+}
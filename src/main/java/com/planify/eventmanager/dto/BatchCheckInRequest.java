@@ -0,0 +1,12 @@
+package com.planify.eventmanager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchCheckInRequest(
+    @NotEmpty @Size(max = 10_000) List<@Valid CheckInScan> scans
+) {
+}
@@ -0,0 +1,15 @@
+package com.planify.eventmanager.dto;
+
+import java.util.List;
+
+/**
+ * Per-scan outcome of a batch check-in: every scan lands in exactly one list, repeated scans as already checked in.
+ */
+public record BatchCheckInResult(
+    Long eventId,
+    int scanned,
+    List<Long> checkedIn,
+    List<Long> alreadyCheckedIn,
+    List<Long> notAccepted
+) {
+}
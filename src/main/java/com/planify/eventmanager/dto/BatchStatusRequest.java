@@ -0,0 +1,12 @@
+package com.planify.eventmanager.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchStatusRequest(
+    @NotEmpty @Size(max = 500) List<@NotNull Long> eventIds
+) {
+}
@@ -0,0 +1,16 @@
+package com.planify.eventmanager.dto;
+
+import com.planify.eventmanager.model.Event;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch status change: every requested event is either updated or skipped, skipped when
+ * it does not exist or its current status does not allow the change.
+ */
+public record BatchStatusResult(
+    Event.EventStatus status,
+    List<Event> updated,
+    List<Long> skipped
+) {
+}
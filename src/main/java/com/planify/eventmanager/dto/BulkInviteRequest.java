@@ -0,0 +1,16 @@
+package com.planify.eventmanager.dto;
+
+import com.planify.eventmanager.model.GuestList;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkInviteRequest(
+    @NotNull Long eventId,
+    @NotEmpty @Size(max = 50_000) List<Long> userIds,
+    GuestList.GuestRole role,
+    String notes
+) {
+}
@@ -0,0 +1,14 @@
+package com.planify.eventmanager.dto;
+
+import java.util.List;
+
+/**
+ * Per-user outcome of a bulk invitation: every distinct requested user ends up in exactly one list.
+ */
+public record BulkInviteResult(
+    Long eventId,
+    int requested,
+    List<Long> invited,
+    List<Long> alreadyInvited
+) {
+}
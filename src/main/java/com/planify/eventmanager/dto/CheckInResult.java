@@ -0,0 +1,15 @@
+package com.planify.eventmanager.dto;
+
+import java.time.LocalDateTime;
+
+public record CheckInResult(
+    Long eventId,
+    Long userId,
+    Outcome outcome,
+    LocalDateTime checkedInAt
+) {
+    
+    public enum Outcome {
+        CHECKED_IN, ALREADY_CHECKED_IN, NOT_ACCEPTED
+    }
+}
@@ -0,0 +1,14 @@
+package com.planify.eventmanager.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * One scanner read; {@code scannedAt} is the device time for offline uploads and defaults to now.
+ */
+public record CheckInScan(
+    @NotNull Long userId,
+    LocalDateTime scannedAt
+) {
+}
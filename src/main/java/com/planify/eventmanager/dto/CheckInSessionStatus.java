@@ -0,0 +1,12 @@
+package com.planify.eventmanager.dto;
+
+import java.time.LocalDateTime;
+
+public record CheckInSessionStatus(
+    Long eventId,
+    int acceptedGuests,
+    int checkedIn,
+    int pendingFlush,
+    LocalDateTime openedAt
+) {
+}
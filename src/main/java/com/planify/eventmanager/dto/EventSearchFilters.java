@@ -0,0 +1,12 @@
+package com.planify.eventmanager.dto;
+
+import com.planify.eventmanager.model.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional restrictions on event search results; null fields do not restrict. The date range is
+ * inclusive and applies to {@code eventDate}.
+ */
+public record EventSearchFilters(Event.EventStatus status, Event.EventType eventType, LocalDateTime start, LocalDateTime end) {
+}
@@ -0,0 +1,30 @@
+package com.planify.eventmanager.dto;
+
+import com.planify.eventmanager.model.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of an event: everything except the description and audit timestamps. Repositories
+ * select it as a constructor projection, so rows never enter the persistence context.
+ */
+public record EventSummary(
+    Long id,
+    String title,
+    LocalDateTime eventDate,
+    LocalDateTime endDate,
+    Long locationId,
+    String locationName,
+    Long organizerId,
+    Integer maxAttendees,
+    Integer currentAttendees,
+    Event.EventType eventType,
+    Event.EventStatus status
+) {
+
+    public static EventSummary from(Event event) {
+        return new EventSummary(event.getId(), event.getTitle(), event.getEventDate(), event.getEndDate(),
+            event.getLocationId(), event.getLocationName(), event.getOrganizerId(), event.getMaxAttendees(),
+            event.getCurrentAttendees(), event.getEventType(), event.getStatus());
+    }
+}
@@ -0,0 +1,36 @@
+package com.planify.eventmanager.dto;
+
+import com.planify.eventmanager.model.GuestList;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Guest statistics for one event, read from the precomputed counters. Every status and role is
+ * present, with zero when no guest has it.
+ */
+public record GuestStats(
+    Long eventId,
+    long total,
+    Map<GuestList.RsvpStatus, Long> byStatus,
+    Map<GuestList.GuestRole, Long> byRole,
+    long checkedIn
+) {
+
+    public static GuestStats from(Long eventId, Map<String, Long> counters) {
+        Map<GuestList.RsvpStatus, Long> byStatus = new EnumMap<>(GuestList.RsvpStatus.class);
+        for (GuestList.RsvpStatus status : GuestList.RsvpStatus.values()) {
+            byStatus.put(status, counters.getOrDefault(GuestCounterRepository.status(status), 0L));
+        }
+        Map<GuestList.GuestRole, Long> byRole = new EnumMap<>(GuestList.GuestRole.class);
+        for (GuestList.GuestRole role : GuestList.GuestRole.values()) {
+            byRole.put(role, counters.getOrDefault(GuestCounterRepository.role(role), 0L));
+        }
+        return new GuestStats(eventId,
+            counters.getOrDefault(GuestCounterRepository.TOTAL, 0L),
+            byStatus,
+            byRole,
+            counters.getOrDefault(GuestCounterRepository.CHECKED_IN, 0L));
+    }
+}
@@ -0,0 +1,19 @@
+package com.planify.eventmanager.dto;
+
+import com.planify.eventmanager.model.GuestList;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of a guest entry without the free-text notes, selected as a constructor projection.
+ */
+public record GuestSummary(
+    Long id,
+    Long eventId,
+    Long userId,
+    GuestList.RsvpStatus rsvpStatus,
+    GuestList.GuestRole role,
+    Boolean checkedIn,
+    LocalDateTime checkedInAt
+) {
+}
@@ -0,0 +1,45 @@
+package com.planify.eventmanager.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position handed to clients as {@code nextCursor}.
+ * Event listings are ordered by {@code (eventDate, id)}, guest listings by {@code id}
+ * within a single event, in which case {@code eventDate} is null.
+ */
+public record KeysetCursor(LocalDateTime eventDate, Long id) {
+    
+    private static final String SEPARATOR = "|";
+    
+    public static KeysetCursor of(Long id) {
+        return new KeysetCursor(null, id);
+    }
+    
+    public static KeysetCursor of(LocalDateTime eventDate, Long id) {
+        return new KeysetCursor(eventDate, id);
+    }
+    
+    public String encode() {
+        String raw = eventDate == null ? String.valueOf(id) : eventDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}; returns null for a missing cursor
+     * so callers can start from the first page.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) return of(Long.parseLong(raw));
+            return of(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
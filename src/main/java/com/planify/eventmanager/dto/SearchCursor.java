@@ -0,0 +1,35 @@
+package com.planify.eventmanager.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in search results, which are ordered by {@code (rank DESC, id)}. The rank is the
+ * exact {@code real} Postgres computed, so the next page resumes right after the last hit. Pages are
+ * ranked from the same window of candidates only while matching events are not added, changed or
+ * removed; otherwise a page can skip or repeat hits.
+ */
+public record SearchCursor(float rank, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}; returns null for a missing cursor.
+     */
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) throw new IllegalArgumentException("Missing separator");
+            return new SearchCursor(Float.parseFloat(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
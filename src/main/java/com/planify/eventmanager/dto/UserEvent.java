@@ -0,0 +1,36 @@
+package com.planify.eventmanager.dto;
+
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event a user is on the guest list of, together with their entry. Selected in one join of
+ * {@code guest_list} and {@code events}, so listing a user's invitations needs no further lookups.
+ */
+public record UserEvent(
+    EventSummary event,
+    Long guestId,
+    GuestList.RsvpStatus rsvpStatus,
+    GuestList.GuestRole role,
+    Boolean checkedIn,
+    LocalDateTime checkedInAt
+) {
+
+    // JPQL constructor expressions cannot nest, so repositories select this flat form
+    public UserEvent(Long eventId, String title, LocalDateTime eventDate, LocalDateTime endDate, Long locationId,
+                     String locationName, Long organizerId, Integer maxAttendees, Integer currentAttendees,
+                     Event.EventType eventType, Event.EventStatus status, Long guestId, GuestList.RsvpStatus rsvpStatus,
+                     GuestList.GuestRole role, Boolean checkedIn, LocalDateTime checkedInAt) {
+        this(new EventSummary(eventId, title, eventDate, endDate, locationId, locationName, organizerId, maxAttendees,
+            currentAttendees, eventType, status), guestId, rsvpStatus, role, checkedIn, checkedInAt);
+    }
+
+    public enum Timeframe {
+        // Soonest first
+        UPCOMING,
+        // Most recent first
+        PAST
+    }
+}
@@ -0,0 +1,10 @@
+package com.planify.eventmanager.dto;
+
+/**
+ * Representation returned by list endpoints: {@code SUMMARY} omits long text columns, {@code DETAIL}
+ * returns full entities.
+ */
+public enum View {
+    SUMMARY,
+    DETAIL
+}
@@ -0,0 +1,67 @@
+package com.planify.eventmanager.event;
+
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Envelope for everything this service publishes to Kafka, serialized as JSON.
+ * {@code aggregateId} is always the Planify event ID and doubles as the record key,
+ * so all messages about one event land on the same partition in order.
+ * {@code version} is the envelope schema version.
+ */
+public record DomainEvent<T>(
+    UUID id,
+    DomainEventType type,
+    Long aggregateId,
+    int version,
+    Instant occurredAt,
+    T payload
+) {
+    
+    public static final int SCHEMA_VERSION = 1;
+    
+    public static <T> DomainEvent<T> of(DomainEventType type, Long aggregateId, T payload) {
+        return new DomainEvent<>(UUID.randomUUID(), type, aggregateId, SCHEMA_VERSION, Instant.now(), payload);
+    }
+    
+    public static DomainEvent<EventPayload> ofEvent(DomainEventType type, Event event) {
+        return of(type, event.getId(), EventPayload.from(event));
+    }
+    
+    public static DomainEvent<GuestPayload> ofGuest(DomainEventType type, GuestList guest) {
+        return of(type, guest.getEventId(), GuestPayload.from(guest));
+    }
+    
+    public String key() {
+        return String.valueOf(aggregateId);
+    }
+    
+    public record EventPayload(
+        Long eventId,
+        String title,
+        Event.EventStatus status,
+        Event.EventType eventType,
+        LocalDateTime eventDate,
+        Long organizerId
+    ) {
+        public static EventPayload from(Event event) {
+            return new EventPayload(event.getId(), event.getTitle(), event.getStatus(), event.getEventType(),
+                event.getEventDate(), event.getOrganizerId());
+        }
+    }
+    
+    public record GuestPayload(
+        Long eventId,
+        Long userId,
+        GuestList.RsvpStatus rsvpStatus,
+        GuestList.GuestRole role
+    ) {
+        public static GuestPayload from(GuestList guest) {
+            return new GuestPayload(guest.getEventId(), guest.getUserId(), guest.getRsvpStatus(), guest.getRole());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.planify.eventmanager.event;
+
+/**
+ * Domain event types and the topic each one is published to.
+ */
+public enum DomainEventType {
+    EVENT_CREATED("event-created"),
+    EVENT_UPDATED("event-updated"),
+    EVENT_DELETED("event-deleted"),
+    EVENT_PUBLISHED("event-published"),
+    EVENT_CANCELLED("event-cancelled"),
+    GUEST_INVITED("guest-invited"),
+    GUEST_REMOVED("guest-removed"),
+    RSVP_UPDATED("rsvp-updated"),
+    GUEST_CHECKED_IN("guest-checked-in");
+    
+    private final String topic;
+    
+    DomainEventType(String topic) {
+        this.topic = topic;
+    }
+    
+    public String topic() {
+        return topic;
+    }
+}
@@ -1,25 +1,147 @@
 package com.planify.eventmanager.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planify.eventmanager.config.KafkaConsumerConfig;
+import com.planify.eventmanager.service.EventCache;
+import com.planify.eventmanager.service.EventFeedIndex;
+import com.planify.eventmanager.service.UpstreamChangeService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Batch listeners. Event lifecycle topics keep local state current: each replica joins its own
+ * consumer group (see {@code planify.cache.invalidation-group-id}) so every replica sees every
+ * change, drops its {@link EventCache} entries and refreshes its {@link EventFeedIndex}. Booking and user service topics are
+ * consumed once per service group and applied set-based through {@link UpstreamChangeService}.
+ * Offsets are acknowledged only after a batch has been applied.
+ */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class KafkaConsumer {
-    
-    @KafkaListener(topics = "event-created", groupId = "${spring.application.name}")
-    public void consumeEventCreated(String message) {
-        log.info("Consumed message from event-created: {}", message);
+
+    private final EventCache eventCache;
+    private final EventFeedIndex eventFeedIndex;
+    private final UpstreamChangeService upstreamChangeService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // Cache Invalidation and Feed Index
+    @KafkaListener(id = "event-changed",
+                   topics = {"event-created", "event-updated", "event-published", "event-cancelled", "event-deleted"},
+                   groupId = "${planify.cache.invalidation-group-id}",
+                   containerFactory = KafkaConsumerConfig.BATCH_FACTORY, concurrency = "1",
+                   properties = "auto.offset.reset=latest")
+    public void consumeEventChanged(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        apply("event-changed", records, ack, batch -> {
+            Set<Long> eventIds = new LinkedHashSet<>();
+            for (ConsumerRecord<String, String> record : batch) {
+                Optional<Long> eventId = parseLong(record.value(), "aggregateId");
+                if (eventId.isPresent()) {
+                    eventIds.add(eventId.get());
+                } else {
+                    log.warn("No event ID in {} message at offset {}", record.topic(), record.offset());
+                }
+            }
+            eventIds.forEach(eventCache::evictEvent);
+            eventFeedIndex.refresh(eventIds);
+        });
     }
-    
-    @KafkaListener(topics = "event-updated", groupId = "${spring.application.name}")
-    public void consumeEventUpdated(String message) {
-        log.info("Consumed message from event-updated: {}", message);
+
+    // Upstream Services
+    @KafkaListener(id = "location-updated", topics = "location-updated", idIsGroup = false,
+                   containerFactory = KafkaConsumerConfig.BATCH_FACTORY,
+                   concurrency = "${planify.kafka.batch.concurrency}")
+    public void consumeLocationUpdated(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        apply("location-updated", records, ack, batch -> {
+            // Later records win, so a batch holding several renames of one location applies the last
+            Map<Long, String> namesByLocationId = new LinkedHashMap<>();
+            for (ConsumerRecord<String, String> record : batch) {
+                JsonNode body = body(record);
+                Optional<Long> locationId = parseLong(body, "locationId");
+                String name = body.path("name").asText(null);
+                if (locationId.isPresent() && name != null) {
+                    namesByLocationId.put(locationId.get(), name);
+                } else {
+                    log.warn("Skipping location-updated message at offset {}: {}", record.offset(), record.value());
+                }
+            }
+            upstreamChangeService.applyLocationNames(namesByLocationId);
+        });
     }
-    
-    @KafkaListener(topics = "event-deleted", groupId = "${spring.application.name}")
-    public void consumeEventDeleted(String message) {
-        log.info("Consumed message from event-deleted: {}", message);
+
+    @KafkaListener(id = "user-deleted", topics = "user-deleted", idIsGroup = false,
+                   containerFactory = KafkaConsumerConfig.BATCH_FACTORY,
+                   concurrency = "${planify.kafka.batch.concurrency}")
+    public void consumeUserDeleted(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        apply("user-deleted", records, ack, batch -> {
+            Set<Long> userIds = new LinkedHashSet<>();
+            for (ConsumerRecord<String, String> record : batch) {
+                Optional<Long> userId = parseLong(body(record), "userId");
+                if (userId.isPresent()) {
+                    userIds.add(userId.get());
+                } else {
+                    log.warn("Skipping user-deleted message at offset {}: {}", record.offset(), record.value());
+                }
+            }
+            upstreamChangeService.removeDeletedUsers(userIds);
+        });
+    }
+
+    // Helper Methods
+    private void apply(String listener, List<ConsumerRecord<String, String>> records, Acknowledgment ack,
+                       Consumer<List<ConsumerRecord<String, String>>> handler) {
+        DistributionSummary.builder("planify.kafka.batch.size")
+            .description("Records per consumed batch")
+            .tag("listener", listener)
+            .register(meterRegistry)
+            .record(records.size());
+        Timer.builder("planify.kafka.batch.duration")
+            .description("Time to apply a consumed batch")
+            .tag("listener", listener)
+            .register(meterRegistry)
+            .record(() -> handler.accept(records));
+        ack.acknowledge();
+        log.debug("Applied {} records from {}", records.size(), listener);
+    }
+
+    // Accepts both bare messages and DomainEvent-style envelopes with the fields under "payload"
+    private JsonNode body(ConsumerRecord<String, String> record) {
+        try {
+            JsonNode root = objectMapper.readTree(record.value());
+            return root.has("payload") ? root.path("payload") : root;
+        } catch (JsonProcessingException e) {
+            return objectMapper.missingNode();
+        }
+    }
+
+    private Optional<Long> parseLong(String message, String field) {
+        try {
+            return parseLong(objectMapper.readTree(message), field);
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Long> parseLong(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.canConvertToLong() ? Optional.of(value.asLong()) : Optional.empty();
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,42 @@
 package com.planify.eventmanager.event;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaProducer {
     
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
     
-    public void sendMessage(String topic, String message) {
-        log.info("Sending message to topic {}: {}", topic, message);
-        kafkaTemplate.send(topic, message);
+    /**
+     * Sends asynchronously; the outcome and latency are recorded as {@code planify.kafka.send}
+     * metrics and failures are logged.
+     */
+    public CompletableFuture<SendResult<String, String>> send(String topic, String key, String value) {
+        log.debug("Sending message with key {} to topic {}", key, topic);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return kafkaTemplate.send(topic, key, value)
+            .whenComplete((result, ex) -> {
+                String outcome = ex == null ? "success" : "failure";
+                sample.stop(Timer.builder("planify.kafka.send")
+                    .description("Kafka send latency until broker acknowledgement")
+                    .tag("topic", topic)
+                    .tag("result", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+                if (ex != null) {
+                    log.error("Failed to send message with key {} to topic {}", key, topic, ex);
+                }
+            });
     }
-}
\ No newline at end of file
+}
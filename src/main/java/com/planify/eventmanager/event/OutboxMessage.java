@@ -0,0 +1,7 @@
+package com.planify.eventmanager.event;
+
+/**
+ * A serialized Kafka record waiting in {@code outbox_events}; {@code id} is null until stored.
+ */
+public record OutboxMessage(Long id, String topic, String key, String payload) {
+}
@@ -0,0 +1,44 @@
+package com.planify.eventmanager.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planify.eventmanager.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction, so a message
+ * is published if and only if the state change commits. {@link OutboxRelay} does the sending.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent<?> event) {
+        publishAll(List.of(event));
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<? extends DomainEvent<?>> events) {
+        if (events.isEmpty()) return;
+        outboxRepository.append(events.stream()
+            .map(event -> new OutboxMessage(null, event.type().topic(), event.key(), serialize(event)))
+            .toList());
+    }
+    
+    private String serialize(DomainEvent<?> event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.type(), e);
+        }
+    }
+}
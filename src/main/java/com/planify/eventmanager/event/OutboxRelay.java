@@ -0,0 +1,81 @@
+package com.planify.eventmanager.event;
+
+import com.planify.eventmanager.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains {@code outbox_events} to Kafka in batches. A batch is deleted only after every record
+ * in it was acknowledged; otherwise the transaction rolls back and the batch is retried, so
+ * delivery is at-least-once and consumers should de-duplicate on {@link DomainEvent#id()}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "planify.outbox", name = "relay-enabled", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+    
+    private final OutboxRepository outboxRepository;
+    private final KafkaProducer kafkaProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayed;
+    
+    @Value("${planify.outbox.batch-size}")
+    private int batchSize;
+    
+    @Value("${planify.outbox.send-timeout}")
+    private Duration sendTimeout;
+    
+    public OutboxRelay(OutboxRepository outboxRepository, KafkaProducer kafkaProducer,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.transactionTemplate = transactionTemplate;
+        this.relayed = Counter.builder("planify.outbox.relayed")
+            .description("Outbox messages acknowledged by Kafka")
+            .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${planify.outbox.poll-interval}")
+    public void relay() {
+        try {
+            int sent;
+            do {
+                sent = transactionTemplate.execute(status -> relayBatch());
+            } while (sent == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, will retry: {}", e.getMessage());
+        }
+    }
+    
+    private int relayBatch() {
+        if (!outboxRepository.tryAcquireRelayLock()) return 0;
+        
+        List<OutboxMessage> batch = outboxRepository.findOldest(batchSize);
+        if (batch.isEmpty()) return 0;
+        
+        CompletableFuture<?>[] sends = batch.stream()
+            .map(message -> kafkaProducer.send(message.topic(), message.key(), message.payload()))
+            .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            throw new IllegalStateException("Outbox batch not acknowledged", e);
+        }
+        
+        outboxRepository.deleteByIds(batch.stream().map(OutboxMessage::id).toList());
+        relayed.increment(batch.size());
+        return batch.size();
+    }
+}
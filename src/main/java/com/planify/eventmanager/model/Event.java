@@ -45,7 +45,8 @@ public class Event {
     @Column(name = "max_attendees")
     private Integer maxAttendees;
     
-    @Column(name = "current_attendees")
+    // Maintained only through atomic deltas in EventRepository, never by entity updates
+    @Column(name = "current_attendees", updatable = false)
     @Builder.Default
     private Integer currentAttendees = 0;
     
@@ -64,6 +65,10 @@ public class Event {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Entity updates fail with an optimistic locking exception if the row changed since it was read
+    @Version
+    private Long version;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class GuestList {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "guest_list_id_seq")
+    @SequenceGenerator(name = "guest_list_id_seq", sequenceName = "guest_list_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "event_id", nullable = false)
@@ -42,6 +43,9 @@ public class GuestList {
     @Column(name = "responded_at")
     private LocalDateTime respondedAt;
     
+    @Column(name = "waitlisted_at")
+    private LocalDateTime waitlistedAt;
+    
     @Column(name = "checked_in")
     @Builder.Default
     private Boolean checkedIn = false;
@@ -52,6 +56,9 @@ public class GuestList {
     @Column(length = 1000)
     private String notes;
     
+    @Version
+    private Long version;
+    
     @PrePersist
     protected void onCreate() {
         invitedAt = LocalDateTime.now();
@@ -60,8 +67,9 @@ public class GuestList {
         if (checkedIn == null) checkedIn = false;
     }
     
+    // WAITLISTED is assigned by the service when an accept finds the event full
     public enum RsvpStatus {
-        PENDING, ACCEPTED, DECLINED, MAYBE
+        PENDING, ACCEPTED, DECLINED, MAYBE, WAITLISTED
     }
     
     public enum GuestRole {
@@ -0,0 +1,350 @@
+package com.planify.eventmanager.repository;
+
+import com.planify.eventmanager.model.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Set-based event writes that bypass the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventBulkRepository {
+    
+    // Rows that already carry the new name are skipped, so replays change nothing
+    private static final String UPDATE_LOCATION_NAMES = """
+        UPDATE events e
+        SET location_name = l.name, updated_at = CURRENT_TIMESTAMP, version = e.version + 1
+        FROM unnest(?::bigint[], ?::varchar[]) AS l(location_id, name)
+        WHERE e.location_id = l.location_id AND e.location_name IS DISTINCT FROM l.name
+        RETURNING e.id, e.title, e.status, e.event_type, e.event_date, e.organizer_id, e.location_id, e.location_name
+        """;
+    
+    private static final String TRANSITION_STATUS = """
+        UPDATE events SET status = ?, updated_at = CURRENT_TIMESTAMP, version = version + 1
+        WHERE id = ? AND status = ANY(?)
+        RETURNING *
+        """;
+    
+    // Rows are locked in ID order first, so batches overlapping in other orders cannot deadlock
+    private static final String TRANSITION_STATUSES = """
+        UPDATE events SET status = ?, updated_at = CURRENT_TIMESTAMP, version = version + 1
+        WHERE id = ANY(ARRAY(
+            SELECT id FROM events
+            WHERE id = ANY(?) AND status = ANY(?)
+            ORDER BY id
+            FOR UPDATE))
+        RETURNING id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+                  max_attendees, current_attendees, event_type, status, created_at, updated_at, version
+        """;
+    
+    private static final String FIND_BY_IDS = """
+        SELECT id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+               max_attendees, current_attendees, event_type, status, created_at, updated_at, version
+        FROM events
+        WHERE id = ANY(?)
+        """;
+    
+    private static final String FIND_VERSION = "SELECT version, updated_at FROM events WHERE id = ?";
+    
+    // NULL max_attendees means unlimited; closed events have no seats to hand out
+    private static final String LOCK_FREE_SEATS = """
+        SELECT CASE WHEN status NOT IN ('DRAFT', 'PUBLISHED') THEN 0
+                    WHEN max_attendees IS NULL THEN 2147483647
+                    ELSE max_attendees - COALESCE(current_attendees, 0) END
+        FROM events WHERE id = ?
+        FOR UPDATE
+        """;
+    
+    // Conflicts with the FOR UPDATE of deletion and archival, not with updates of the row
+    private static final String LOCK_KEY = "SELECT id FROM events WHERE id = ? FOR KEY SHARE";
+    
+    private static final String LOCK_KEYS = "SELECT id FROM events WHERE id = ANY(?) ORDER BY id FOR KEY SHARE";
+    
+    // ID order, so concurrent batches and single-event writers cannot deadlock
+    private static final String LOCK_ACTIVE_AFTER = """
+        SELECT id FROM events
+        WHERE status IN ('DRAFT', 'PUBLISHED') AND id > ?
+        ORDER BY id
+        LIMIT ?
+        FOR UPDATE
+        """;
+    
+    private static final String FIND_ACTIVE_AFTER = """
+        SELECT id FROM events
+        WHERE status IN ('DRAFT', 'PUBLISHED') AND id > ?
+        ORDER BY id
+        LIMIT ?
+        """;
+    
+    // Run after LOCK_ACTIVE_AFTER in its own statement, so the counts see every accept committed before the lock
+    private static final String RECOUNT_ATTENDEES = """
+        UPDATE events e SET current_attendees = c.accepted, updated_at = CURRENT_TIMESTAMP
+        FROM (SELECT l.id, (SELECT COUNT(*) FROM guest_list g WHERE g.event_id = l.id AND g.rsvp_status = 'ACCEPTED') AS accepted
+              FROM unnest(?::bigint[]) AS l(id)) AS c
+        WHERE e.id = c.id AND e.current_attendees IS DISTINCT FROM c.accepted
+        """;
+    
+    // Lifecycle batches lock their rows and skip rows locked by another replica's batch
+    private static final String COMPLETE_ENDED = """
+        UPDATE events SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP, version = version + 1
+        WHERE id IN (
+            SELECT id FROM events
+            WHERE status = 'PUBLISHED' AND COALESCE(end_date, event_date) < ?
+            ORDER BY COALESCE(end_date, event_date), id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED)
+        RETURNING id
+        """;
+    
+    private static final String LOCK_ARCHIVABLE = """
+        SELECT id FROM events
+        WHERE status = 'COMPLETED' AND COALESCE(end_date, event_date) < ?
+        ORDER BY COALESCE(end_date, event_date), id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+    
+    private static final String ARCHIVE_GUESTS = """
+        WITH moved AS (
+            DELETE FROM guest_list WHERE event_id = ANY(?)
+            RETURNING id, event_id, user_id, rsvp_status, role, invited_at, responded_at, checked_in, checked_in_at, notes)
+        INSERT INTO guest_list_archive (id, event_id, user_id, rsvp_status, role, invited_at, responded_at, checked_in, checked_in_at, notes)
+        SELECT id, event_id, user_id, rsvp_status, role, invited_at, responded_at, checked_in, checked_in_at, notes FROM moved
+        """;
+    
+    private static final String ARCHIVE_EVENTS = """
+        WITH moved AS (
+            DELETE FROM events WHERE id = ANY(?)
+            RETURNING id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+                      max_attendees, current_attendees, event_type, status, created_at, updated_at)
+        INSERT INTO events_archive (id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+                                    max_attendees, current_attendees, event_type, status, created_at, updated_at)
+        SELECT id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+               max_attendees, current_attendees, event_type, status, created_at, updated_at FROM moved
+        """;
+    
+    static final RowMapper<Event> EVENT = (rs, rowNum) -> Event.builder()
+        .id(rs.getLong("id"))
+        .title(rs.getString("title"))
+        .description(rs.getString("description"))
+        .eventDate(rs.getTimestamp("event_date").toLocalDateTime())
+        .endDate(rs.getTimestamp("end_date") != null ? rs.getTimestamp("end_date").toLocalDateTime() : null)
+        .locationId(rs.getObject("location_id", Long.class))
+        .locationName(rs.getString("location_name"))
+        .organizerId(rs.getLong("organizer_id"))
+        .maxAttendees(rs.getObject("max_attendees", Integer.class))
+        .currentAttendees(rs.getObject("current_attendees", Integer.class))
+        .eventType(Event.EventType.valueOf(rs.getString("event_type")))
+        .status(Event.EventStatus.valueOf(rs.getString("status")))
+        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+        .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+        .version(rs.getLong("version"))
+        .build();
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * An event row's {@code version} and {@code updated_at}. Attendee count changes move only the latter.
+     */
+    public record Version(long value, LocalDateTime updatedAt) {
+        
+        public boolean matches(Event event) {
+            return event.getVersion() != null && event.getVersion() == value && updatedAt.equals(event.getUpdatedAt());
+        }
+    }
+    
+    /**
+     * Renames locations across all events in one statement and returns the events that changed,
+     * populated with the fields used in domain event payloads.
+     */
+    public List<Event> updateLocationNames(Map<Long, String> namesByLocationId) {
+        if (namesByLocationId.isEmpty()) return List.of();
+        
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_LOCATION_NAMES);
+            statement.setArray(1, connection.createArrayOf("bigint", namesByLocationId.keySet().toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", namesByLocationId.values().toArray()));
+            return statement;
+        }, (rs, rowNum) -> Event.builder()
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .status(Event.EventStatus.valueOf(rs.getString("status")))
+            .eventType(Event.EventType.valueOf(rs.getString("event_type")))
+            .eventDate(rs.getTimestamp("event_date").toLocalDateTime())
+            .organizerId(rs.getLong("organizer_id"))
+            .locationId(rs.getLong("location_id"))
+            .locationName(rs.getString("location_name"))
+            .build());
+    }
+    
+    /**
+     * Moves an event to {@code status} if it is currently in one of {@code from}, in one statement
+     * without loading it first, and returns the updated event. Empty if the event does not exist or
+     * is in another status.
+     */
+    public Optional<Event> transitionStatus(Long id, Collection<Event.EventStatus> from, Event.EventStatus status) {
+        List<Event> events = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(TRANSITION_STATUS);
+            statement.setString(1, status.name());
+            statement.setLong(2, id);
+            statement.setArray(3, connection.createArrayOf("varchar", from.stream().map(Enum::name).toArray()));
+            return statement;
+        }, EVENT);
+        return events.stream().findFirst();
+    }
+    
+    /**
+     * Moves every listed event currently in one of {@code from} to {@code status} in one statement and
+     * returns the updated events; events that do not exist or are in another status are left out.
+     */
+    public List<Event> transitionStatuses(Collection<Long> ids, Collection<Event.EventStatus> from, Event.EventStatus status) {
+        if (ids.isEmpty()) return List.of();
+        
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(TRANSITION_STATUSES);
+            statement.setString(1, status.name());
+            statement.setArray(2, connection.createArrayOf("bigint", ids.toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar", from.stream().map(Enum::name).toArray()));
+            return statement;
+        }, EVENT);
+    }
+    
+    // Lookups
+    /**
+     * Loads the listed events with one statement planned the same way for any number of IDs, in no
+     * particular order; IDs without an event are left out.
+     */
+    public List<Event> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_BY_IDS);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        }, EVENT);
+    }
+    
+    /**
+     * Reads only the event's version columns, e.g. to validate a cached copy; empty when it does not exist.
+     */
+    public Optional<Version> findVersion(Long id) {
+        return jdbcTemplate.query(FIND_VERSION,
+            (rs, rowNum) -> new Version(rs.getLong("version"), rs.getTimestamp("updated_at").toLocalDateTime()), id)
+            .stream().findFirst();
+    }
+    
+    // Capacity
+    /**
+     * Locks the event row until the transaction ends and returns its free seats: {@link Integer#MAX_VALUE}
+     * when it has no limit, 0 when it is missing or no longer open. Seat reservations for the event
+     * wait for the lock.
+     */
+    public int lockFreeSeats(Long id) {
+        List<Integer> seats = jdbcTemplate.queryForList(LOCK_FREE_SEATS, Integer.class, id);
+        return seats.isEmpty() ? 0 : seats.get(0);
+    }
+    
+    /**
+     * Keeps the event from being deleted or archived until the transaction ends and returns whether
+     * it exists. Guest rows have no foreign key to {@code events}, so writers that add or change them
+     * take this first.
+     */
+    public boolean lockKey(Long id) {
+        return !jdbcTemplate.queryForList(LOCK_KEY, Long.class, id).isEmpty();
+    }
+    
+    /**
+     * {@link #lockKey} for several events, taken in ID order.
+     */
+    public void lockKeys(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_KEYS);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> { });
+    }
+    
+    /**
+     * Locks up to {@code limit} open events with IDs above {@code afterId}, in ID order, until the
+     * transaction ends and returns their IDs. Every change to an event's accepted guests also updates
+     * the event row, so their accepted count stays put while the lock is held.
+     */
+    public List<Long> lockActiveEventsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(LOCK_ACTIVE_AFTER, Long.class, afterId, limit);
+    }
+    
+    /**
+     * Returns up to {@code limit} IDs of open events above {@code afterId}, in ID order.
+     */
+    public List<Long> findActiveEventIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(FIND_ACTIVE_AFTER, Long.class, afterId, limit);
+    }
+    
+    /**
+     * Overwrites {@code current_attendees} of the given events with their number of accepted guests
+     * where it differs and returns the number of events corrected. The events must be locked first
+     * ({@link #lockActiveEventsAfter} or {@code EventRepository.findByIdForUpdate}), or a concurrent
+     * accept can be counted out.
+     */
+    public int recountAttendees(List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        return updateWithIds(RECOUNT_ATTENDEES, ids);
+    }
+    
+    // Lifecycle
+    /**
+     * Marks up to {@code limit} published events that ended before {@code now} (or started, when they
+     * have no end date) as completed and returns their IDs.
+     */
+    public List<Long> completeEnded(LocalDateTime now, int limit) {
+        return jdbcTemplate.queryForList(COMPLETE_ENDED, Long.class, Timestamp.valueOf(now), limit);
+    }
+    
+    /**
+     * Moves up to {@code limit} completed events that ended before {@code cutoff}, with their guests,
+     * into the archive tables and returns their IDs. Their guest counters are left to the caller.
+     * Must run inside a transaction.
+     */
+    public List<Long> archiveCompleted(LocalDateTime cutoff, int limit) {
+        List<Long> eventIds = jdbcTemplate.queryForList(LOCK_ARCHIVABLE, Long.class, Timestamp.valueOf(cutoff), limit);
+        if (eventIds.isEmpty()) return eventIds;
+        
+        updateWithIds(ARCHIVE_GUESTS, eventIds);
+        updateWithIds(ARCHIVE_EVENTS, eventIds);
+        return eventIds;
+    }
+    
+    // Partitions
+    /**
+     * Creates the monthly events partition containing {@code month} unless it exists, moving matching
+     * rows out of the default partition. Returns whether a partition was created.
+     */
+    public boolean ensureMonthlyPartition(LocalDate month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT ensure_events_partition(?)", Boolean.class, Date.valueOf(month)));
+    }
+    
+    private int updateWithIds(String sql, List<Long> ids) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        });
+    }
+}
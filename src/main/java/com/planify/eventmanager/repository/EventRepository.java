@@ -1,19 +1,39 @@
 package com.planify.eventmanager.repository;
 
+import com.planify.eventmanager.dto.EventSummary;
 import com.planify.eventmanager.model.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
     
+    // Locks the event row until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdForUpdate(Long id);
+    
     // Find by organizer
     List<Event> findByOrganizerId(Long organizerId);
     
+    List<EventSummary> findSummariesByOrganizerId(Long organizerId);
+    
+    @Query("SELECT e.id FROM Event e WHERE e.organizerId = :organizerId")
+    List<Long> findIdsByOrganizerId(Long organizerId);
+    
     // Find by status
     List<Event> findByStatus(Event.EventStatus status);
     
@@ -27,11 +47,12 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByEventDateBetween(LocalDateTime start, LocalDateTime end);
     
     // Find upcoming events (published and not completed)
-    @Query("SELECT e FROM Event e WHERE e.eventDate > :now AND e.status = 'PUBLISHED' ORDER BY e.eventDate ASC")
+    // The status literal (not a parameter) lets generic plans use the partial index idx_events_published_date
+    @Query("SELECT e FROM Event e WHERE e.eventDate > :now AND e.status = 'PUBLISHED' ORDER BY e.eventDate ASC, e.id ASC")
     List<Event> findUpcomingEvents(LocalDateTime now);
     
     // Find past events
-    @Query("SELECT e FROM Event e WHERE e.eventDate < :now ORDER BY e.eventDate DESC")
+    @Query("SELECT e FROM Event e WHERE e.eventDate < :now ORDER BY e.eventDate DESC, e.id DESC")
     List<Event> findPastEvents(LocalDateTime now);
     
     // Find events by location
@@ -42,4 +63,64 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     
     // Find events by organizer and status
     List<Event> findByOrganizerIdAndStatus(Long organizerId, Event.EventStatus status);
+    
+    // Everything the in-memory feed index holds: published events that have not ended
+    @Query("SELECT e FROM Event e WHERE e.status = com.planify.eventmanager.model.Event.EventStatus.PUBLISHED " +
+           "AND COALESCE(e.endDate, e.eventDate) >= :now")
+    List<Event> findFeedEvents(LocalDateTime now);
+    
+    // Incremental feed index refresh; every write to an event row moves updated_at
+    List<Event> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+    
+    // Atomic attendee count maintenance; an increment that would exceed max_attendees updates no row
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = COALESCE(e.currentAttendees, 0) + :delta, e.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE e.id = :id AND COALESCE(e.currentAttendees, 0) + :delta >= 0 " +
+           "AND (:delta <= 0 OR e.maxAttendees IS NULL OR COALESCE(e.currentAttendees, 0) + :delta <= e.maxAttendees)")
+    int adjustAttendeeCount(Long id, int delta);
+    
+    // Takes one seat unless the event is full or guests are already waiting for one, who go first
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = COALESCE(e.currentAttendees, 0) + 1, e.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE e.id = :id AND (e.maxAttendees IS NULL OR COALESCE(e.currentAttendees, 0) < e.maxAttendees) " +
+           "AND NOT EXISTS (SELECT 1 FROM GuestList g WHERE g.eventId = :id " +
+           "AND g.rsvpStatus = com.planify.eventmanager.model.GuestList.RsvpStatus.WAITLISTED)")
+    int reserveSeat(Long id);
+    
+    // Keyset pagination on (event_date, id)
+    List<Event> findByOrderByEventDateAscIdAsc(Limit limit);
+    
+    // The plain event_date bound is implied by the row comparison but, unlike it, prunes monthly partitions
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :eventDate AND (e.eventDate, e.id) > (:eventDate, :id) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findPageAfter(LocalDateTime eventDate, Long id, Limit limit);
+    
+    @Query("SELECT e FROM Event e WHERE e.eventDate < :now ORDER BY e.eventDate DESC, e.id DESC")
+    List<Event> findPastEventsPage(LocalDateTime now, Limit limit);
+    
+    @Query("SELECT e FROM Event e WHERE e.eventDate <= :eventDate AND (e.eventDate, e.id) < (:eventDate, :id) " +
+           "ORDER BY e.eventDate DESC, e.id DESC")
+    List<Event> findPastEventsPageBefore(LocalDateTime eventDate, Long id, Limit limit);
+    
+    // Cursor-backed streams; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e ORDER BY e.eventDate ASC, e.id ASC")
+    Stream<Event> streamAll();
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e WHERE e.eventType = :eventType ORDER BY e.eventDate ASC, e.id ASC")
+    Stream<Event> streamByEventType(Event.EventType eventType);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e WHERE e.eventDate < :now ORDER BY e.eventDate DESC, e.id DESC")
+    Stream<Event> streamPastEvents(LocalDateTime now);
 }
\ No newline at end of file
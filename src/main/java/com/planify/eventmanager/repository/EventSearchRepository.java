@@ -0,0 +1,109 @@
+package com.planify.eventmanager.repository;
+
+import com.planify.eventmanager.dto.EventSearchFilters;
+import com.planify.eventmanager.dto.SearchCursor;
+import com.planify.eventmanager.model.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Ranked full-text search over {@code events.search_vector}, answered from its GIN index. Every term
+ * of the query must match a word in the title, location name or description; the last one only has
+ * to match its start. Ranking costs a pass over every match, so only the {@code maxCandidates}
+ * matches with the latest event dates are ranked, which keeps broad queries as fast as specific ones
+ * and upcoming events in the results.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventSearchRepository {
+
+    // Further terms rarely narrow the result and each one costs an index lookup
+    public static final int MAX_TERMS = 8;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // search_vector itself is never sent back
+    private static final String SEARCH = """
+        SELECT * FROM (
+            SELECT id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+                   max_attendees, current_attendees, event_type, status, created_at, updated_at, version,
+                   ts_rank(search_vector, query) AS rank
+            FROM events, to_tsquery('simple', ?) AS query
+            WHERE search_vector @@ query""";
+
+    private static final RowMapper<Hit> HIT = (rs, rowNum) -> new Hit(EventBulkRepository.EVENT.mapRow(rs, rowNum), rs.getFloat("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Hit(Event event, float rank) {
+    }
+
+    /**
+     * Up to {@code limit} events matching {@code query} and the filters, best match first, after
+     * {@code after} (exclusive) or from the top when null. A query without any letter or digit
+     * matches nothing.
+     */
+    public List<Hit> search(String query, EventSearchFilters filters, int maxCandidates, SearchCursor after, int limit) {
+        String terms = prefixQuery(query);
+        if (terms.isEmpty()) return List.of();
+
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(terms);
+        if (filters.status() != null) arguments.add(filters.status().name());
+        if (filters.eventType() != null) arguments.add(filters.eventType().name());
+        if (filters.start() != null) arguments.add(Timestamp.valueOf(filters.start()));
+        if (filters.end() != null) arguments.add(Timestamp.valueOf(filters.end()));
+        arguments.add(maxCandidates);
+        if (after != null) {
+            arguments.add(after.rank());
+            arguments.add(after.rank());
+            arguments.add(after.id());
+        }
+        arguments.add(limit);
+        return jdbcTemplate.query(sql(filters, after != null), HIT, arguments.toArray());
+    }
+
+    /**
+     * The search statement for the given filters; parameters are the tsquery, each present filter,
+     * the candidate limit, the cursor's rank, rank and id when {@code paged}, and the limit.
+     */
+    static String sql(EventSearchFilters filters, boolean paged) {
+        StringBuilder sql = new StringBuilder(SEARCH);
+        if (filters.status() != null) sql.append(" AND status = ?");
+        if (filters.eventType() != null) sql.append(" AND event_type = ?");
+        // Plain bounds on event_date let the planner skip months outside the range
+        if (filters.start() != null) sql.append(" AND event_date >= ?");
+        if (filters.end() != null) sql.append(" AND event_date <= ?");
+        // A fixed window applied before the cursor, so pages rank the same candidates while the matches
+        // do not change; DESC on both columns lets the planner walk idx_events_date_id backwards
+        sql.append("\n    ORDER BY event_date DESC, id DESC\n    LIMIT ?\n) AS hits");
+        if (paged) sql.append("\nWHERE rank < ? OR (rank = ? AND id > ?)");
+        return sql.append("\nORDER BY rank DESC, id\nLIMIT ?").toString();
+    }
+
+    /**
+     * Turns free text into a tsquery requiring every word, the last one as a prefix since it may still
+     * be being typed, e.g. {@code "Jazz nig"} into {@code jazz & nig:*}. Prefix lookups cost several
+     * times an exact one, so earlier words match whole. Punctuation is dropped, so user input cannot
+     * inject tsquery syntax.
+     */
+    static String prefixQuery(String text) {
+        if (text == null) return "";
+        List<String> terms = Arrays.stream(NON_WORD.split(text.toLowerCase(Locale.ROOT)))
+            .filter(term -> !term.isEmpty())
+            .distinct()
+            .limit(MAX_TERMS)
+            .toList();
+        if (terms.isEmpty()) return "";
+        return String.join(" & ", terms) + ":*";
+    }
+}
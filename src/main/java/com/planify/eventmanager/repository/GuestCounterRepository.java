@@ -0,0 +1,250 @@
+package com.planify.eventmanager.repository;
+
+import com.planify.eventmanager.model.GuestList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Incrementally maintained guest counters in {@code event_guest_counters}, one row per event and key.
+ * The {@value #VERSION} counter is not a statistic: it moves with every change to the event's guest
+ * list and identifies the list's current state.
+ * <p>
+ * Lock order: a transaction that changes both an event row and its counters locks the event row
+ * first, and an event's counter rows are locked in key order. Writers that lock several events do so
+ * in event ID order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GuestCounterRepository {
+
+    public static final String TOTAL = "total";
+    public static final String CHECKED_IN = "checked_in";
+    public static final String VERSION = "version";
+
+    // Keys are applied in sorted order so concurrent writers lock rows in the same order
+    private static final String APPLY_DELTAS = """
+        INSERT INTO event_guest_counters (event_id, counter, value)
+        SELECT ?, d.counter, d.delta
+        FROM unnest(?::varchar[], ?::bigint[]) AS d(counter, delta)
+        ORDER BY d.counter
+        ON CONFLICT (event_id, counter) DO UPDATE
+        SET value = event_guest_counters.value + EXCLUDED.value, updated_at = clock_timestamp()
+        """;
+
+    private static final String LOCK_COUNTERS = """
+        SELECT event_id, counter, value FROM event_guest_counters
+        WHERE event_id = ANY(?)
+        ORDER BY event_id, counter
+        FOR UPDATE
+        """;
+
+    private static final String ACTUAL_COUNTS = """
+        SELECT g.event_id, c.counter, COUNT(*) AS value
+        FROM guest_list g
+        CROSS JOIN LATERAL (VALUES
+            ('total'),
+            ('status:' || g.rsvp_status),
+            ('role:' || g.role),
+            (CASE WHEN g.checked_in THEN 'checked_in' END)
+        ) AS c(counter)
+        WHERE g.event_id = ANY(?) AND c.counter IS NOT NULL
+        GROUP BY g.event_id, c.counter
+        """;
+
+    // Only values still as read are overwritten
+    private static final String CORRECT_COUNTERS = """
+        UPDATE event_guest_counters c SET value = u.value, updated_at = clock_timestamp()
+        FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::bigint[]) AS u(event_id, counter, expected, value)
+        WHERE c.event_id = u.event_id AND c.counter = u.counter AND c.value = u.expected
+        RETURNING c.event_id
+        """;
+
+    // A counter a concurrent writer creates first already includes that writer's change; it is left for the next run
+    private static final String INSERT_MISSING = """
+        INSERT INTO event_guest_counters (event_id, counter, value)
+        SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::bigint[]) AS u(event_id, counter, value)
+        ORDER BY event_id, counter
+        ON CONFLICT (event_id, counter) DO NOTHING
+        RETURNING event_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Version(long value, LocalDateTime updatedAt) {
+    }
+
+    public static String status(GuestList.RsvpStatus status) {
+        return "status:" + status.name();
+    }
+
+    public static String role(GuestList.GuestRole role) {
+        return "role:" + role.name();
+    }
+
+    /**
+     * Counter changes for adding ({@code sign = 1}) or removing ({@code sign = -1}) the given guests.
+     */
+    public static Map<String, Long> deltasOf(Collection<GuestList> guests, long sign) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (GuestList guest : guests) {
+            deltas.merge(TOTAL, sign, Long::sum);
+            deltas.merge(status(guest.getRsvpStatus()), sign, Long::sum);
+            if (guest.getRole() != null) {
+                deltas.merge(role(guest.getRole()), sign, Long::sum);
+            }
+            if (Boolean.TRUE.equals(guest.getCheckedIn())) {
+                deltas.merge(CHECKED_IN, sign, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    public void applyDeltas(Long eventId, Map<String, Long> deltas) {
+        Map<String, Long> nonZero = new TreeMap<>(deltas);
+        nonZero.values().removeIf(delta -> delta == 0);
+        if (nonZero.isEmpty()) return;
+        nonZero.put(VERSION, 1L);
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(APPLY_DELTAS);
+            statement.setLong(1, eventId);
+            statement.setArray(2, connection.createArrayOf("varchar", nonZero.keySet().toArray()));
+            statement.setArray(3, connection.createArrayOf("bigint", nonZero.values().toArray()));
+            return statement;
+        });
+    }
+
+    /**
+     * Moves the guest-list version of a change that leaves every statistic as it was.
+     */
+    public void touch(Long eventId) {
+        applyDeltas(eventId, Map.of(VERSION, 1L));
+    }
+
+    /**
+     * The event's guest-list version and when it last moved; 0 and null before the first change.
+     */
+    public Version findVersion(Long eventId) {
+        List<Version> versions = jdbcTemplate.query(
+            "SELECT value, updated_at FROM event_guest_counters WHERE event_id = ? AND counter = ?",
+            (rs, rowNum) -> new Version(rs.getLong("value"), rs.getTimestamp("updated_at").toLocalDateTime()),
+            eventId, VERSION);
+        return versions.isEmpty() ? new Version(0, null) : versions.get(0);
+    }
+
+    public Map<String, Long> findByEventId(Long eventId) {
+        return findByEventIds(List.of(eventId)).getOrDefault(eventId, Map.of());
+    }
+
+    public Map<Long, Map<String, Long>> findByEventIds(List<Long> eventIds) {
+        Map<Long, Map<String, Long>> counters = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "SELECT event_id, counter, value FROM event_guest_counters WHERE event_id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("bigint", eventIds.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> counters
+            .computeIfAbsent(rs.getLong("event_id"), id -> new HashMap<>())
+            .put(rs.getString("counter"), rs.getLong("value")));
+        return counters;
+    }
+
+    public int deleteByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) return 0;
+
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM event_guest_counters WHERE event_id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("bigint", eventIds.toArray()));
+            return statement;
+        });
+    }
+
+    /**
+     * Overwrites drifted counters of the given events with exact counts from {@code guest_list} and
+     * returns the number of rows corrected. Counter rows are locked in key order before the guests are
+     * counted, so a change the count misses is one whose delta has not been applied yet. Events with
+     * corrected counters get a new guest-list version, so cached statistics are not reused. Must run
+     * inside a transaction.
+     */
+    public int reconcile(List<Long> eventIds) {
+        if (eventIds.isEmpty()) return 0;
+
+        Map<Long, Map<String, Long>> stored = queryCounts(LOCK_COUNTERS, eventIds);
+        Map<Long, Map<String, Long>> actual = queryCounts(ACTUAL_COUNTS, eventIds);
+
+        List<Object[]> changed = new ArrayList<>();
+        List<Object[]> missing = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            Map<String, Long> current = stored.getOrDefault(eventId, Map.of());
+            Map<String, Long> counted = actual.getOrDefault(eventId, Map.of());
+            counted.forEach((counter, value) -> {
+                Long expected = current.get(counter);
+                if (expected == null) {
+                    missing.add(new Object[] {eventId, counter, value});
+                } else if (!expected.equals(value)) {
+                    changed.add(new Object[] {eventId, counter, expected, value});
+                }
+            });
+            current.forEach((counter, expected) -> {
+                if (!counter.equals(VERSION) && expected != 0 && !counted.containsKey(counter)) {
+                    changed.add(new Object[] {eventId, counter, expected, 0L});
+                }
+            });
+        }
+
+        List<Long> corrected = new ArrayList<>(writeCorrections(CORRECT_COUNTERS, changed));
+        corrected.addAll(writeCorrections(INSERT_MISSING, missing));
+        new TreeSet<>(corrected).forEach(this::touch);
+        return corrected.size();
+    }
+
+    /**
+     * Drops counters of events that no longer exist and returns the number of rows deleted.
+     */
+    public int deleteOrphaned() {
+        // events is partitioned, so no foreign key removes counters of events deleted outside the service
+        return jdbcTemplate.update(
+            "DELETE FROM event_guest_counters c WHERE NOT EXISTS (SELECT 1 FROM events e WHERE e.id = c.event_id)");
+    }
+
+    // Helper Methods
+    private Map<Long, Map<String, Long>> queryCounts(String sql, List<Long> eventIds) {
+        Map<Long, Map<String, Long>> counts = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("bigint", eventIds.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> counts
+            .computeIfAbsent(rs.getLong("event_id"), id -> new HashMap<>())
+            .put(rs.getString("counter"), rs.getLong("value")));
+        return counts;
+    }
+
+    // Rows are columns of the statement's unnest(), event ID and counter first
+    private List<Long> writeCorrections(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int columns = rows.get(0).length;
+            for (int column = 0; column < columns; column++) {
+                int index = column;
+                statement.setArray(column + 1, connection.createArrayOf(column == 1 ? "varchar" : "bigint",
+                    rows.stream().map(row -> row[index]).toArray()));
+            }
+            return statement;
+        }, (rs, rowNum) -> rs.getLong("event_id"));
+    }
+}
@@ -0,0 +1,287 @@
+package com.planify.eventmanager.repository;
+
+import com.planify.eventmanager.model.GuestList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Set-based guest list writes that bypass the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GuestListBulkRepository {
+    
+    // Must match the allocationSize of GuestList's id generator: the sequence steps by a whole block
+    private static final int ID_BLOCK_SIZE = 50;
+    
+    // One nextval per block of ids, like Hibernate's pooled optimizer
+    private static final String ALLOCATE_ID_BLOCKS = "SELECT nextval('guest_list_id_seq') FROM generate_series(1, ?)";
+    
+    // Rows for users already on the list are skipped by the guest_list_unique constraint
+    private static final String INSERT_GUESTS = """
+        INSERT INTO guest_list (id, event_id, user_id, rsvp_status, role, invited_at, checked_in, notes)
+        SELECT u.id, ?, u.user_id, 'PENDING', ?, ?, FALSE, ?
+        FROM unnest(?::bigint[], ?::bigint[]) AS u(id, user_id)
+        ON CONFLICT (event_id, user_id) DO NOTHING
+        RETURNING user_id
+        """;
+    
+    // checked_in is nullable, so a plain "= FALSE" would skip rows that were never set
+    private static final String MARK_CHECKED_IN = """
+        UPDATE guest_list g
+        SET checked_in = TRUE, checked_in_at = s.checked_in_at, version = g.version + 1
+        FROM unnest(?::bigint[], ?::timestamp[]) AS s(user_id, checked_in_at)
+        WHERE g.event_id = ? AND g.user_id = s.user_id
+          AND g.rsvp_status = 'ACCEPTED' AND g.checked_in IS NOT TRUE
+        RETURNING g.*
+        """;
+    
+    // RETURNING only sees new values, so the previous status comes from the locked row in the subquery
+    private static final String UPDATE_RSVP = """
+        UPDATE guest_list g
+        SET rsvp_status = ?, responded_at = ?, version = g.version + 1
+        FROM (SELECT id, rsvp_status FROM guest_list WHERE event_id = ? AND user_id = ? FOR UPDATE) AS previous
+        WHERE g.event_id = ? AND g.id = previous.id
+        RETURNING g.*, previous.rsvp_status AS previous_status
+        """;
+    
+    // The row is already locked by the UPDATE_RSVP that accepted it earlier in the transaction
+    private static final String WAITLIST = """
+        UPDATE guest_list SET rsvp_status = 'WAITLISTED', waitlisted_at = ?
+        WHERE event_id = ? AND user_id = ?
+        RETURNING *
+        """;
+    
+    // Oldest first. An entry with an RSVP change in flight is waited for, not skipped, so the queue
+    // order holds; one that left the waitlist meanwhile drops out, and the batch comes back short.
+    // ARRAY() runs the locking subquery once: joined, it can be rescanned per row and pass the LIMIT
+    private static final String PROMOTE_WAITLISTED = """
+        UPDATE guest_list
+        SET rsvp_status = 'ACCEPTED', version = version + 1
+        WHERE event_id = ? AND id = ANY(ARRAY(
+            SELECT id FROM guest_list
+            WHERE event_id = ? AND rsvp_status = 'WAITLISTED'
+            ORDER BY waitlisted_at, id
+            LIMIT ?
+            FOR UPDATE))
+        RETURNING *
+        """;
+    
+    private static final String FIND_PROMOTABLE_EVENTS = """
+        SELECT e.id
+        FROM (SELECT DISTINCT event_id FROM guest_list WHERE rsvp_status = 'WAITLISTED') AS w
+        JOIN events e ON e.id = w.event_id
+        WHERE e.status IN ('DRAFT', 'PUBLISHED')
+          AND (e.max_attendees IS NULL OR COALESCE(e.current_attendees, 0) < e.max_attendees)
+        """;
+    
+    private static final RowMapper<GuestList> GUEST = (rs, rowNum) -> GuestList.builder()
+        .id(rs.getLong("id"))
+        .eventId(rs.getLong("event_id"))
+        .userId(rs.getLong("user_id"))
+        .rsvpStatus(GuestList.RsvpStatus.valueOf(rs.getString("rsvp_status")))
+        .role(rs.getString("role") != null ? GuestList.GuestRole.valueOf(rs.getString("role")) : null)
+        .invitedAt(toLocalDateTime(rs.getTimestamp("invited_at")))
+        .respondedAt(toLocalDateTime(rs.getTimestamp("responded_at")))
+        .waitlistedAt(toLocalDateTime(rs.getTimestamp("waitlisted_at")))
+        .checkedIn(rs.getBoolean("checked_in"))
+        .checkedInAt(toLocalDateTime(rs.getTimestamp("checked_in_at")))
+        .notes(rs.getString("notes"))
+        .version(rs.getLong("version"))
+        .build();
+    
+    private static final String DELETE_BY_USERS = """
+        DELETE FROM guest_list
+        WHERE user_id = ANY(?)
+        RETURNING id, event_id, user_id, rsvp_status, role, checked_in
+        """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @FunctionalInterface
+    public interface AcceptedGuestHandler {
+        void accept(long userId, boolean checkedIn);
+    }
+    
+    public record RsvpChange(GuestList guest, GuestList.RsvpStatus previous) {
+    }
+    
+    /**
+     * Invites one chunk of users in a single statement and returns the user IDs that were actually inserted.
+     */
+    public List<Long> insertPendingGuests(Long eventId, List<Long> userIds, GuestList.GuestRole role,
+                                          String notes, LocalDateTime invitedAt) {
+        if (userIds.isEmpty()) return List.of();
+        
+        Long[] ids = allocateIds(userIds.size());
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_GUESTS);
+            statement.setLong(1, eventId);
+            statement.setString(2, role.name());
+            statement.setTimestamp(3, Timestamp.valueOf(invitedAt));
+            statement.setString(4, notes);
+            statement.setArray(5, connection.createArrayOf("bigint", ids));
+            statement.setArray(6, connection.createArrayOf("bigint", userIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getLong("user_id"));
+    }
+    
+    /**
+     * Takes {@code count} guest ids from the pooled sequence. Each {@code nextval} {@code hi} owns
+     * {@code hi - 49 .. hi}, the same block Hibernate's pooled optimizer would use, so both can allocate
+     * from the sequence without collisions.
+     */
+    private Long[] allocateIds(int count) {
+        List<Long> blocks = jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS, Long.class, (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+        Long[] ids = new Long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blocks.get(i / ID_BLOCK_SIZE) - (ID_BLOCK_SIZE - 1) + i % ID_BLOCK_SIZE;
+        }
+        return ids;
+    }
+    
+    /**
+     * Streams an event's accepted guests in ascending user ID order without materializing entities.
+     */
+    public void forEachAcceptedGuest(Long eventId, AcceptedGuestHandler handler) {
+        jdbcTemplate.query(
+            "SELECT user_id, checked_in FROM guest_list WHERE event_id = ? AND rsvp_status = 'ACCEPTED' ORDER BY user_id",
+            (RowCallbackHandler) rs -> handler.accept(rs.getLong("user_id"), rs.getBoolean("checked_in")),
+            eventId);
+    }
+    
+    /**
+     * Marks one batch of accepted guests as checked in and returns the updated entries;
+     * guests already checked in or no longer accepted are left untouched.
+     */
+    public List<GuestList> markCheckedIn(Long eventId, List<Long> userIds, List<LocalDateTime> checkedInAt) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(MARK_CHECKED_IN);
+            statement.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+            statement.setArray(2, connection.createArrayOf("timestamp",
+                checkedInAt.stream().map(Timestamp::valueOf).toArray()));
+            statement.setLong(3, eventId);
+            return statement;
+        }, GUEST);
+    }
+    
+    /**
+     * Returns which of the given users are accepted guests already checked in to the event.
+     */
+    public List<Long> findCheckedIn(Long eventId, List<Long> userIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "SELECT user_id FROM guest_list WHERE event_id = ? AND user_id = ANY(?) AND rsvp_status = 'ACCEPTED' AND checked_in");
+            statement.setLong(1, eventId);
+            statement.setArray(2, connection.createArrayOf("bigint", userIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getLong("user_id"));
+    }
+    
+    /**
+     * Sets a guest's RSVP in one statement without loading the entry first and returns the updated
+     * entry with its previous status, or empty if the user is not on the event's guest list. The row
+     * stays locked until the transaction ends.
+     */
+    public Optional<RsvpChange> updateRsvp(Long eventId, Long userId, GuestList.RsvpStatus status, LocalDateTime respondedAt) {
+        List<RsvpChange> changes = jdbcTemplate.query(UPDATE_RSVP, (rs, rowNum) -> new RsvpChange(
+                GUEST.mapRow(rs, rowNum), GuestList.RsvpStatus.valueOf(rs.getString("previous_status"))),
+            status.name(), Timestamp.valueOf(respondedAt), eventId, userId, eventId);
+        return changes.stream().findFirst();
+    }
+    
+    /**
+     * Moves a guest whose accept found no free seat onto the event's waitlist, queued at
+     * {@code waitlistedAt}, and returns the updated entry.
+     */
+    public GuestList waitlist(Long eventId, Long userId, LocalDateTime waitlistedAt) {
+        return jdbcTemplate.queryForObject(WAITLIST, GUEST, Timestamp.valueOf(waitlistedAt), eventId, userId);
+    }
+    
+    /**
+     * Accepts up to {@code limit} of an event's waitlisted guests in the order they joined the
+     * waitlist and returns the promoted entries, possibly fewer than there are waiting. The caller
+     * must hold the seats for them and the lock on the event row.
+     */
+    public List<GuestList> promoteWaitlisted(Long eventId, int limit) {
+        return jdbcTemplate.query(PROMOTE_WAITLISTED, GUEST, eventId, eventId, limit);
+    }
+    
+    /**
+     * IDs of open events with both a free seat and guests waiting for one.
+     */
+    public List<Long> findEventsWithPromotableWaitlist() {
+        return jdbcTemplate.queryForList(FIND_PROMOTABLE_EVENTS, Long.class);
+    }
+    
+    /**
+     * IDs of the events the users are guests of, in ascending order.
+     */
+    public List<Long> findEventIdsByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return List.of();
+        
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "SELECT DISTINCT event_id FROM guest_list WHERE user_id = ANY(?) ORDER BY event_id");
+            statement.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getLong("event_id"));
+    }
+    
+    /**
+     * Removes every guest entry of the given users and returns the deleted rows.
+     */
+    public List<GuestList> deleteByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return List.of();
+        
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_BY_USERS);
+            statement.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> GuestList.builder()
+            .id(rs.getLong("id"))
+            .eventId(rs.getLong("event_id"))
+            .userId(rs.getLong("user_id"))
+            .rsvpStatus(GuestList.RsvpStatus.valueOf(rs.getString("rsvp_status")))
+            .role(rs.getString("role") != null ? GuestList.GuestRole.valueOf(rs.getString("role")) : null)
+            .checkedIn(rs.getBoolean("checked_in"))
+            .build());
+    }
+    
+    /**
+     * Deletes the users' rows from {@code guest_list_archive} and returns how many were deleted.
+     * Run it after {@link #deleteByUserIds}, so rows archived meanwhile are caught here.
+     */
+    public int deleteArchivedByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return 0;
+        
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM guest_list_archive WHERE user_id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+            return statement;
+        });
+    }
+    
+    /**
+     * Deletes guest rows of events that no longer exist and returns how many were deleted.
+     */
+    public int deleteOrphaned() {
+        // events is partitioned, so no foreign key removes guests of events deleted outside the service
+        return jdbcTemplate.update(
+            "DELETE FROM guest_list g WHERE NOT EXISTS (SELECT 1 FROM events e WHERE e.id = g.event_id)");
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -1,11 +1,21 @@
 package com.planify.eventmanager.repository;
 
+import com.planify.eventmanager.dto.GuestSummary;
+import com.planify.eventmanager.dto.UserEvent;
 import com.planify.eventmanager.model.GuestList;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GuestListRepository extends JpaRepository<GuestList, Long> {
@@ -13,9 +23,32 @@ public interface GuestListRepository extends JpaRepository<GuestList, Long> {
     // Find all guests for an event
     List<GuestList> findByEventId(Long eventId);
     
+    List<GuestSummary> findSummariesByEventId(Long eventId);
+    
     // Find all events for a user
     List<GuestList> findByUserId(Long userId);
     
+    // A user's events with their entries, keyset pagination on (event_date, event_id); a user has one
+    // entry per event. A null status matches any. The plain event_date bound is implied by the row
+    // comparison but prunes partitions
+    @Query("SELECT new com.planify.eventmanager.dto.UserEvent(e.id, e.title, e.eventDate, e.endDate, e.locationId, " +
+           "e.locationName, e.organizerId, e.maxAttendees, e.currentAttendees, e.eventType, e.status, " +
+           "g.id, g.rsvpStatus, g.role, g.checkedIn, g.checkedInAt) " +
+           "FROM GuestList g JOIN Event e ON e.id = g.eventId " +
+           "WHERE g.userId = :userId AND g.rsvpStatus = COALESCE(:status, g.rsvpStatus) " +
+           "AND e.eventDate >= :eventDate AND (e.eventDate, e.id) > (:eventDate, :eventId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<UserEvent> findUserEventsAfter(Long userId, GuestList.RsvpStatus status, LocalDateTime eventDate, Long eventId, Limit limit);
+    
+    @Query("SELECT new com.planify.eventmanager.dto.UserEvent(e.id, e.title, e.eventDate, e.endDate, e.locationId, " +
+           "e.locationName, e.organizerId, e.maxAttendees, e.currentAttendees, e.eventType, e.status, " +
+           "g.id, g.rsvpStatus, g.role, g.checkedIn, g.checkedInAt) " +
+           "FROM GuestList g JOIN Event e ON e.id = g.eventId " +
+           "WHERE g.userId = :userId AND g.rsvpStatus = COALESCE(:status, g.rsvpStatus) " +
+           "AND e.eventDate <= :eventDate AND (e.eventDate, e.id) < (:eventDate, :eventId) " +
+           "ORDER BY e.eventDate DESC, e.id DESC")
+    List<UserEvent> findUserEventsBefore(Long userId, GuestList.RsvpStatus status, LocalDateTime eventDate, Long eventId, Limit limit);
+    
     // Find specific guest entry
     Optional<GuestList> findByEventIdAndUserId(Long eventId, Long userId);
     
@@ -25,6 +58,9 @@ public interface GuestListRepository extends JpaRepository<GuestList, Long> {
     // Find by RSVP status
     List<GuestList> findByEventIdAndRsvpStatus(Long eventId, GuestList.RsvpStatus status);
     
+    // Waitlist in promotion order
+    List<GuestList> findByEventIdAndRsvpStatusOrderByWaitlistedAtAscIdAsc(Long eventId, GuestList.RsvpStatus status);
+    
     // Count guests by status
     Long countByEventIdAndRsvpStatus(Long eventId, GuestList.RsvpStatus status);
     
@@ -43,6 +79,21 @@ public interface GuestListRepository extends JpaRepository<GuestList, Long> {
     // Find by role
     List<GuestList> findByEventIdAndRole(Long eventId, GuestList.GuestRole role);
     
-    // Delete all guests for an event
-    void deleteByEventId(Long eventId);
+    // Delete all guests for an event in one statement
+    @Modifying
+    @Query("DELETE FROM GuestList g WHERE g.eventId = :eventId")
+    int deleteByEventId(Long eventId);
+    
+    // Keyset pagination on (event_id, id)
+    List<GuestList> findByEventIdOrderByIdAsc(Long eventId, Limit limit);
+    
+    List<GuestList> findByEventIdAndIdGreaterThanOrderByIdAsc(Long eventId, Long id, Limit limit);
+    
+    // Cursor-backed stream; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT g FROM GuestList g WHERE g.eventId = :eventId ORDER BY g.id ASC")
+    Stream<GuestList> streamByEventId(Long eventId);
 }
\ No newline at end of file
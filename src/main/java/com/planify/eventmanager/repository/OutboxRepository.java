@@ -0,0 +1,54 @@
+package com.planify.eventmanager.repository;
+
+import com.planify.eventmanager.event.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+    
+    // Arbitrary application-wide key for the relay's transaction-scoped advisory lock
+    private static final long RELAY_LOCK_KEY = 7_091_311_024L;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public void append(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO outbox_events (topic, message_key, payload) VALUES (?, ?, ?)",
+            messages, messages.size(),
+            (statement, message) -> {
+                statement.setString(1, message.topic());
+                statement.setString(2, message.key());
+                statement.setString(3, message.payload());
+            });
+    }
+    
+    /**
+     * Lets exactly one replica relay at a time, which keeps per-key publication order;
+     * released automatically when the transaction ends.
+     */
+    public boolean tryAcquireRelayLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY));
+    }
+    
+    public List<OutboxMessage> findOldest(int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, topic, message_key, payload FROM outbox_events ORDER BY id LIMIT ?",
+            (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"), rs.getString("topic"), rs.getString("message_key"), rs.getString("payload")),
+            limit);
+    }
+    
+    public int deleteByIds(List<Long> ids) {
+        return jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement("DELETE FROM outbox_events WHERE id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.repository.EventBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Periodically recounts {@code current_attendees} from {@code guest_list} to repair any drift
+ * left by the delta-based updates in {@link GuestListService} (e.g. rows changed outside the service).
+ * Events are locked before their guests are counted, in short transactions of
+ * {@code planify.attendees.reconcile-batch-size} events, so a concurrent accept is never counted out.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendeeCountReconciler {
+    
+    private final EventBulkRepository eventBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${planify.attendees.reconcile-batch-size}")
+    private int batchSize;
+    
+    @Scheduled(
+        fixedDelayString = "${planify.attendees.reconcile-interval}",
+        initialDelayString = "${planify.attendees.reconcile-interval}")
+    public void reconcile() {
+        int corrected = 0;
+        long afterId = 0;
+        List<Long> eventIds;
+        do {
+            long from = afterId;
+            BatchResult batch = transactionTemplate.execute(status -> {
+                List<Long> locked = eventBulkRepository.lockActiveEventsAfter(from, batchSize);
+                return new BatchResult(locked, eventBulkRepository.recountAttendees(locked));
+            });
+            eventIds = batch.eventIds();
+            corrected += batch.corrected();
+            if (!eventIds.isEmpty()) afterId = eventIds.get(eventIds.size() - 1);
+        } while (eventIds.size() == batchSize);
+        
+        if (corrected > 0) {
+            log.warn("Reconciled attendee count for {} events", corrected);
+        }
+    }
+    
+    private record BatchResult(List<Long> eventIds, int corrected) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.dto.BatchCheckInResult;
+import com.planify.eventmanager.dto.CheckInResult;
+import com.planify.eventmanager.dto.CheckInScan;
+import com.planify.eventmanager.dto.CheckInSessionStatus;
+import com.planify.eventmanager.event.DomainEvent;
+import com.planify.eventmanager.event.DomainEventType;
+import com.planify.eventmanager.event.OutboxPublisher;
+import com.planify.eventmanager.model.GuestList;
+import com.planify.eventmanager.repository.EventBulkRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+import com.planify.eventmanager.repository.GuestListBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Event-day check-in. While a session is open for an event, scans are validated against an
+ * in-memory {@link CheckInSession} and written to {@code guest_list} in batches on a schedule;
+ * without a session, and for guests missing from the snapshot, they are written on their own.
+ * A check-in is only acknowledged once its conditional write has committed, so a scan in a session
+ * waits up to {@code planify.checkin.flush-interval} for the next batch. The database decides the
+ * outcome, which keeps replicas with their own sessions for the same event from admitting a guest
+ * twice and catches guests who declined or were removed after the snapshot was taken.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CheckInService {
+
+    private final EventBulkRepository eventBulkRepository;
+    private final GuestListBulkRepository guestListBulkRepository;
+    private final GuestCounterRepository guestCounterRepository;
+    private final EventService eventService;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, CheckInSession> sessions = new ConcurrentHashMap<>();
+
+    @Value("${planify.checkin.flush-batch-size}")
+    private int flushBatchSize;
+
+    @Value("${planify.checkin.ack-timeout}")
+    private Duration ackTimeout;
+
+    // Session Management
+    public CheckInSessionStatus openSession(Long eventId) {
+        // Check if event exists
+        eventService.getEventById(eventId);
+
+        CheckInSession session = sessions.computeIfAbsent(eventId, this::loadSession);
+        log.info("Check-in session open for event {} with {} accepted guests", eventId, session.guestCount());
+        return status(session);
+    }
+
+    public CheckInSessionStatus getSessionStatus(Long eventId) {
+        return status(getSession(eventId));
+    }
+
+    public CheckInSessionStatus closeSession(Long eventId) {
+        CheckInSession session = getSession(eventId);
+        sessions.remove(eventId, session);
+        session.close();
+        flush(session);
+
+        log.info("Closed check-in session for event {} ({} checked in)", eventId, session.checkedInCount());
+        return status(session);
+    }
+
+    // Check-in
+    public CheckInResult checkIn(Long eventId, Long userId) {
+        CheckInSession session = sessions.get(eventId);
+        LocalDateTime now = LocalDateTime.now();
+        CheckInSession.Scan scan = session != null
+            ? await(session.checkIn(userId, now))
+            : CheckInSession.Scan.UNKNOWN;
+        if (scan == CheckInSession.Scan.UNKNOWN) {
+            scan = write(eventId, List.of(userId), List.of(now)).get(userId);
+        }
+        return new CheckInResult(eventId, userId, outcome(scan), scan == CheckInSession.Scan.CHECKED_IN ? now : null);
+    }
+
+    /**
+     * Applies an upload of scans. Without an open session the accepted guests are loaded once for
+     * the whole batch. Returns once every check-in in it has been written.
+     */
+    public BatchCheckInResult checkInBatch(Long eventId, List<CheckInScan> scans) {
+        CheckInSession session = sessions.get(eventId);
+        boolean adHoc = session == null;
+        if (adHoc) {
+            eventService.getEventById(eventId);
+            session = loadSession(eventId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CompletableFuture<CheckInSession.Scan>> results = new ArrayList<>(scans.size());
+        for (CheckInScan scan : scans) {
+            results.add(session.checkIn(scan.userId(), scan.scannedAt() != null ? scan.scannedAt() : now));
+        }
+        if (adHoc) {
+            session.close();
+            flush(session);
+        }
+        await(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)));
+
+        // Guests missing from the snapshot are written together, first scan first
+        Map<Long, LocalDateTime> unknown = new LinkedHashMap<>();
+        for (int i = 0; i < scans.size(); i++) {
+            if (results.get(i).join() == CheckInSession.Scan.UNKNOWN) {
+                CheckInScan scan = scans.get(i);
+                unknown.putIfAbsent(scan.userId(), scan.scannedAt() != null ? scan.scannedAt() : now);
+            }
+        }
+        Map<Long, CheckInSession.Scan> written = unknown.isEmpty()
+            ? Map.of()
+            : write(eventId, List.copyOf(unknown.keySet()), List.copyOf(unknown.values()));
+
+        List<Long> checkedIn = new ArrayList<>();
+        List<Long> alreadyCheckedIn = new ArrayList<>();
+        List<Long> notAccepted = new ArrayList<>();
+        Set<Long> reported = new HashSet<>();
+        for (int i = 0; i < scans.size(); i++) {
+            Long userId = scans.get(i).userId();
+            CheckInSession.Scan scan = results.get(i).join();
+            if (scan == CheckInSession.Scan.UNKNOWN) {
+                scan = written.get(userId);
+                // A repeated scan of a guest written here counts once
+                if (scan == CheckInSession.Scan.CHECKED_IN && !reported.add(userId)) {
+                    scan = CheckInSession.Scan.ALREADY_CHECKED_IN;
+                }
+            }
+            switch (outcome(scan)) {
+                case CHECKED_IN -> checkedIn.add(userId);
+                case ALREADY_CHECKED_IN -> alreadyCheckedIn.add(userId);
+                case NOT_ACCEPTED -> notAccepted.add(userId);
+            }
+        }
+
+        log.info("Batch check-in for event {}: {} checked in, {} already, {} not accepted",
+            eventId, checkedIn.size(), alreadyCheckedIn.size(), notAccepted.size());
+        return new BatchCheckInResult(eventId, scans.size(), checkedIn, alreadyCheckedIn, notAccepted);
+    }
+
+    // Flushing
+    @Scheduled(fixedDelayString = "${planify.checkin.flush-interval}")
+    public void flushAll() {
+        for (CheckInSession session : sessions.values()) {
+            try {
+                flush(session);
+            } catch (RuntimeException e) {
+                log.warn("Check-in flush failed for event {}, scans in it were rejected: {}", session.eventId(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        sessions.values().forEach(CheckInSession::close);
+        flushAll();
+    }
+
+    // Helper Methods
+    private CheckInSession loadSession(Long eventId) {
+        CheckInSession.Builder builder = CheckInSession.builder(eventId);
+        guestListBulkRepository.forEachAcceptedGuest(eventId, builder::add);
+        return builder.build();
+    }
+
+    private CheckInSession getSession(Long eventId) {
+        CheckInSession session = sessions.get(eventId);
+        if (session == null) {
+            throw new RuntimeException("No check-in session open for event: " + eventId);
+        }
+        return session;
+    }
+
+    private void flush(CheckInSession session) {
+        List<CheckInSession.PendingCheckIn> batch;
+        while (!(batch = session.drain(flushBatchSize)).isEmpty()) {
+            Map<Long, CheckInSession.Scan> outcomes;
+            try {
+                outcomes = write(session.eventId(),
+                    batch.stream().map(CheckInSession.PendingCheckIn::userId).toList(),
+                    batch.stream().map(CheckInSession.PendingCheckIn::checkedInAt).toList());
+            } catch (RuntimeException e) {
+                session.fail(batch, e);
+                throw e;
+            }
+            batch.forEach(checkIn -> session.complete(checkIn, outcomes.get(checkIn.userId())));
+        }
+    }
+
+    /**
+     * Writes check-ins for distinct users in one transaction. Only rows the conditional update
+     * changed count as checked in; the rest were checked in elsewhere or are no longer accepted.
+     */
+    private Map<Long, CheckInSession.Scan> write(Long eventId, List<Long> userIds, List<LocalDateTime> checkedInAt) {
+        return transactionTemplate.execute(status -> {
+            // The event row is locked before guests and counters, like in every other guest write; a
+            // deleted event has no guests left to check in
+            eventBulkRepository.lockKey(eventId);
+            List<GuestList> written = guestListBulkRepository.markCheckedIn(eventId, userIds, checkedInAt);
+            Map<Long, CheckInSession.Scan> outcomes = new HashMap<>();
+            written.forEach(guest -> outcomes.put(guest.getUserId(), CheckInSession.Scan.CHECKED_IN));
+            if (!written.isEmpty()) {
+                guestCounterRepository.applyDeltas(eventId, Map.of(GuestCounterRepository.CHECKED_IN, (long) written.size()));
+
+                // Publish check-in events to Kafka with the batch
+                outboxPublisher.publishAll(written.stream()
+                    .map(guest -> DomainEvent.ofGuest(DomainEventType.GUEST_CHECKED_IN, guest))
+                    .toList());
+            }
+
+            List<Long> unwritten = userIds.stream().filter(userId -> !outcomes.containsKey(userId)).toList();
+            if (!unwritten.isEmpty()) {
+                guestListBulkRepository.findCheckedIn(eventId, unwritten)
+                    .forEach(userId -> outcomes.put(userId, CheckInSession.Scan.ALREADY_CHECKED_IN));
+                unwritten.forEach(userId -> outcomes.putIfAbsent(userId, CheckInSession.Scan.NOT_ACCEPTED));
+            }
+            log.debug("Wrote {} of {} check-ins for event {}", written.size(), userIds.size(), eventId);
+            return outcomes;
+        });
+    }
+
+    private <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Check-in not confirmed within " + ackTimeout);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Check-in failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for check-in", e);
+        }
+    }
+
+    private static CheckInResult.Outcome outcome(CheckInSession.Scan scan) {
+        return switch (scan) {
+            case CHECKED_IN -> CheckInResult.Outcome.CHECKED_IN;
+            case ALREADY_CHECKED_IN -> CheckInResult.Outcome.ALREADY_CHECKED_IN;
+            case NOT_ACCEPTED, UNKNOWN -> CheckInResult.Outcome.NOT_ACCEPTED;
+        };
+    }
+
+    private static CheckInSessionStatus status(CheckInSession session) {
+        return new CheckInSessionStatus(session.eventId(), session.guestCount(), session.checkedInCount(),
+            session.pendingCount(), session.openedAt());
+    }
+}
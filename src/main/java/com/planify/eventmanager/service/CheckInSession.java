@@ -0,0 +1,182 @@
+package com.planify.eventmanager.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory snapshot of one event's accepted guests for door scanning. Guests are a sorted
+ * {@code long[]} of user IDs with a parallel check-in bitset, so a scan is a binary search plus
+ * one CAS. New check-ins queue up until {@link CheckInService} writes them to {@code guest_list}
+ * and completes each with what the write found, so the snapshot only answers repeat scans on its
+ * own. Guests who accept after the snapshot was taken are not in it and report {@link Scan#UNKNOWN}.
+ */
+final class CheckInSession {
+
+    enum Scan { CHECKED_IN, ALREADY_CHECKED_IN, NOT_ACCEPTED, UNKNOWN }
+
+    record PendingCheckIn(long userId, LocalDateTime checkedInAt, CompletableFuture<Scan> result) {
+    }
+
+    private final Long eventId;
+    private final long[] userIds;
+    private final AtomicLongArray checkedIn;
+    private final AtomicInteger checkedInCount;
+    private final ConcurrentLinkedQueue<PendingCheckIn> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final LocalDateTime openedAt = LocalDateTime.now();
+
+    // Scans hold the read lock so none can enqueue after close() and miss the final flush
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    private CheckInSession(Long eventId, long[] userIds, long[] checkedInBits, int checkedInCount) {
+        this.eventId = eventId;
+        this.userIds = userIds;
+        this.checkedIn = new AtomicLongArray(checkedInBits);
+        this.checkedInCount = new AtomicInteger(checkedInCount);
+    }
+
+    static Builder builder(Long eventId) {
+        return new Builder(eventId);
+    }
+
+    /**
+     * Completes at once for repeat scans and unknown guests; a new check-in completes when its write
+     * does, with {@link Scan#ALREADY_CHECKED_IN} or {@link Scan#NOT_ACCEPTED} if the database disagrees.
+     */
+    CompletableFuture<Scan> checkIn(long userId, LocalDateTime at) {
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index < 0) return CompletableFuture.completedFuture(Scan.UNKNOWN);
+
+        int word = index >>> 6;
+        long mask = 1L << index;
+        lock.readLock().lock();
+        try {
+            if (closed) return CompletableFuture.completedFuture(Scan.UNKNOWN);
+            long bits;
+            do {
+                bits = checkedIn.get(word);
+                if ((bits & mask) != 0) return CompletableFuture.completedFuture(Scan.ALREADY_CHECKED_IN);
+            } while (!checkedIn.compareAndSet(word, bits, bits | mask));
+
+            checkedInCount.incrementAndGet();
+            PendingCheckIn checkIn = new PendingCheckIn(userId, at, new CompletableFuture<>());
+            pending.add(checkIn);
+            pendingCount.incrementAndGet();
+            return checkIn.result();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes up to {@code max} queued check-ins for writing; each must then be passed to
+     * {@link #complete} or {@link #fail}.
+     */
+    List<PendingCheckIn> drain(int max) {
+        List<PendingCheckIn> batch = new ArrayList<>(Math.min(max, pendingCount.get()));
+        PendingCheckIn next;
+        while (batch.size() < max && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    // A guest the database no longer has as accepted can be scanned again if they re-accept
+    void complete(PendingCheckIn checkIn, Scan outcome) {
+        if (outcome == Scan.NOT_ACCEPTED) {
+            release(checkIn.userId());
+        }
+        checkIn.result().complete(outcome);
+    }
+
+    // Nothing from a failed write was committed, so its guests can be scanned again
+    void fail(List<PendingCheckIn> batch, Throwable cause) {
+        for (PendingCheckIn checkIn : batch) {
+            release(checkIn.userId());
+            checkIn.result().completeExceptionally(cause);
+        }
+    }
+
+    private void release(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        long mask = 1L << index;
+        checkedIn.getAndUpdate(index >>> 6, bits -> bits & ~mask);
+        checkedInCount.decrementAndGet();
+    }
+
+    void close() {
+        lock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Long eventId() {
+        return eventId;
+    }
+
+    int guestCount() {
+        return userIds.length;
+    }
+
+    int checkedInCount() {
+        return checkedInCount.get();
+    }
+
+    int pendingCount() {
+        return pendingCount.get();
+    }
+
+    LocalDateTime openedAt() {
+        return openedAt;
+    }
+
+    /**
+     * Collects guests in ascending user ID order, as returned by
+     * {@link com.planify.eventmanager.repository.GuestListBulkRepository#forEachAcceptedGuest}.
+     */
+    static final class Builder {
+
+        private final Long eventId;
+        private long[] userIds = new long[1024];
+        private long[] checkedInBits = new long[16];
+        private int size;
+        private int checkedInCount;
+
+        private Builder(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        Builder add(long userId, boolean alreadyCheckedIn) {
+            if (size > 0 && userId <= userIds[size - 1]) {
+                throw new IllegalArgumentException("Guests must be added in ascending user ID order");
+            }
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+                checkedInBits = Arrays.copyOf(checkedInBits, userIds.length >>> 6);
+            }
+            if (alreadyCheckedIn) {
+                checkedInBits[size >>> 6] |= 1L << size;
+                checkedInCount++;
+            }
+            userIds[size++] = userId;
+            return this;
+        }
+
+        CheckInSession build() {
+            long[] bits = Arrays.copyOf(checkedInBits, (size + 63) >>> 6);
+            return new CheckInSession(eventId, Arrays.copyOf(userIds, size), bits, checkedInCount);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.model.Event;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for event lookups by ID; the public/upcoming feeds are served by
+ * {@link EventFeedIndex}. Size, TTL and stats come from {@code spring.cache.caffeine.spec};
+ * hit/miss/eviction metrics are exported by Spring Boot's cache metrics binding. Evictions
+ * issued inside a transaction are deferred until it commits, so readers never re-cache
+ * pre-commit state.
+ */
+@Component
+public class EventCache {
+    
+    public static final String EVENTS = "events";
+    
+    private final Cache events;
+    
+    public EventCache(CacheManager cacheManager) {
+        this.events = transactionAware(cacheManager, EVENTS);
+    }
+    
+    /**
+     * Returns the cached event or loads it once, even under concurrent misses.
+     * Cached instances are shared and must not be modified.
+     */
+    public Event getEvent(Long id, Supplier<Event> loader) {
+        return unwrap(() -> events.get(id, loader::get));
+    }
+    
+    /**
+     * Returns the listed events in the order given, taking cached ones from the cache and loading
+     * all others with one call to {@code loader}; IDs without an event are left out. Loaded events
+     * are not cached, since a batch load racing an eviction could cache a stale row.
+     */
+    public List<Event> getEvents(Collection<Long> ids, Function<Collection<Long>, List<Event>> loader) {
+        Map<Long, Event> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Event cached = events.get(id, Event.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach(event -> found.put(event.getId(), event));
+        }
+        return ids.stream().distinct().map(found::get).filter(Objects::nonNull).toList();
+    }
+    
+    public void evictEvent(Long id) {
+        events.evict(id);
+    }
+    
+    private static Cache transactionAware(CacheManager cacheManager, String name) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(name), () -> "Cache not configured: " + name);
+        return new TransactionAwareCacheDecorator(cache);
+    }
+    
+    // Loader exceptions (e.g. "Event not found") surface unchanged instead of wrapped
+    private static <T> T unwrap(Supplier<T> lookup) {
+        try {
+            return lookup.get();
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.dto.KeysetCursor;
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory feeds of published events and their public subset, each ordered by {@code (eventDate, id)}
+ * in a skip list so time ranges and keyset pages are served without touching the database. Only events
+ * a feed can return are held: published ones that have not ended (by {@code endDate}, or
+ * {@code eventDate} without one).
+ * <p>
+ * Local writes are applied after their transaction commits; changes made by other replicas arrive
+ * through the event topics and are re-read by ID. A periodic refresh re-reads only the events whose
+ * {@code updated_at} moved since the previous one, which picks up what neither path carries, such as
+ * attendee counts, and drops events that have ended. Deletions reach the index through the first two
+ * paths only. Indexed instances are shared and must not be modified.
+ */
+@Component
+@Slf4j
+public class EventFeedIndex {
+
+    private static final Comparator<KeysetCursor> ORDER =
+        Comparator.comparing(KeysetCursor::eventDate).thenComparing(KeysetCursor::id);
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration refreshOverlap;
+
+    private final Map<Long, Event> byId = new ConcurrentHashMap<>();
+    private final NavigableMap<KeysetCursor, Event> publicEvents = new ConcurrentSkipListMap<>(ORDER);
+    private final NavigableMap<KeysetCursor, Event> publishedEvents = new ConcurrentSkipListMap<>(ORDER);
+    // When each event was last changed incrementally, so a slower refresh cannot overwrite it
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    // Lower updated_at bound of the next refresh; null until the feeds have been loaded
+    private LocalDateTime changedSince;
+
+    public EventFeedIndex(EventRepository eventRepository, PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry, @Value("${planify.feed.refresh-overlap}") Duration refreshOverlap) {
+        this.eventRepository = eventRepository;
+        this.refreshOverlap = refreshOverlap;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("planify.feed.index.size", publicEvents, Map::size).tag("feed", "public").register(meterRegistry);
+        Gauge.builder("planify.feed.index.size", publishedEvents, Map::size).tag("feed", "published").register(meterRegistry);
+    }
+
+    // Queries
+    /**
+     * Up to {@code limit} public events after {@code after} (exclusive), or from the start when null.
+     */
+    public List<Event> publicPage(KeysetCursor after, int limit) {
+        return page(after == null ? publicEvents : publicEvents.tailMap(after, false), limit);
+    }
+
+    public List<Event> upcomingPage(LocalDateTime now, KeysetCursor after, int limit) {
+        NavigableMap<KeysetCursor, Event> upcoming = upcoming(now);
+        return page(after == null ? upcoming : upcoming.tailMap(after, false), limit);
+    }
+
+    // Incremental Updates (deferred until the surrounding transaction commits)
+    public void put(Event event) {
+        afterCommit(() -> {
+            changedAt.put(event.getId(), System.nanoTime());
+            apply(event.getId(), event);
+        });
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> {
+            changedAt.put(id, System.nanoTime());
+            apply(id, null);
+        });
+    }
+
+    /**
+     * Re-reads the given events, e.g. after another replica announced a change, and drops the ones
+     * that no longer exist.
+     */
+    public void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        List<Event> events = readOnlyTransaction.execute(status -> eventRepository.findAllById(ids));
+        Set<Long> missing = new HashSet<>(ids);
+        for (Event event : events) {
+            missing.remove(event.getId());
+            changedAt.put(event.getId(), System.nanoTime());
+            apply(event.getId(), event);
+        }
+        for (Long id : missing) {
+            changedAt.put(id, System.nanoTime());
+            apply(id, null);
+        }
+    }
+
+    // Refresh
+    /**
+     * Loads every event the feeds can return on the first call; later calls re-read the events changed
+     * since the previous call started, less {@code planify.feed.refresh-overlap}, and drop ended events.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${planify.feed.refresh-interval}",
+        initialDelayString = "${planify.feed.refresh-interval}")
+    public synchronized void refreshChanged() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = changedSince;
+        List<Event> loaded = readOnlyTransaction.execute(status -> since == null
+            ? eventRepository.findFeedEvents(now)
+            : eventRepository.findByUpdatedAtGreaterThanEqual(since));
+
+        for (Event event : loaded) {
+            if (!changedSince(event.getId(), startedAt)) {
+                apply(event.getId(), event);
+            }
+        }
+        evictEnded(now);
+        changedAt.values().removeIf(changed -> changed - startedAt < 0);
+        // Transactions still open now may yet commit rows stamped before it
+        changedSince = now.minus(refreshOverlap);
+        log.debug("Refreshed event feeds with {} changed events: {} public, {} published",
+            loaded.size(), publicEvents.size(), publishedEvents.size());
+    }
+
+    /**
+     * Drops the events that ended before {@code now}; only events that have started can have.
+     */
+    void evictEnded(LocalDateTime now) {
+        for (Event event : publishedEvents.headMap(KeysetCursor.of(now, Long.MAX_VALUE), true).values()) {
+            if (!hasEnded(event, now)) continue;
+            byId.computeIfPresent(event.getId(), (id, current) -> {
+                if (!hasEnded(current, now)) return current;
+                unindex(current);
+                return null;
+            });
+        }
+    }
+
+    // Helper Methods
+    private NavigableMap<KeysetCursor, Event> upcoming(LocalDateTime now) {
+        return publishedEvents.tailMap(KeysetCursor.of(now, Long.MAX_VALUE), false);
+    }
+
+    private static List<Event> page(NavigableMap<KeysetCursor, Event> range, int limit) {
+        return range.values().stream().limit(limit).toList();
+    }
+
+    // Serialized per ID by the map, so both feeds always reflect the latest version of each event
+    private void apply(Long id, Event event) {
+        LocalDateTime now = LocalDateTime.now();
+        byId.compute(id, (key, previous) -> {
+            if (previous != null) unindex(previous);
+            if (event == null || event.getStatus() != Event.EventStatus.PUBLISHED || hasEnded(event, now)) return null;
+            publishedEvents.put(keyOf(event), event);
+            if (event.getEventType() == Event.EventType.PUBLIC) publicEvents.put(keyOf(event), event);
+            return event;
+        });
+    }
+
+    private void unindex(Event event) {
+        publicEvents.remove(keyOf(event));
+        publishedEvents.remove(keyOf(event));
+    }
+
+    private static boolean hasEnded(Event event, LocalDateTime now) {
+        LocalDateTime end = event.getEndDate() != null ? event.getEndDate() : event.getEventDate();
+        return end.isBefore(now);
+    }
+
+    private boolean changedSince(Long id, long startedAt) {
+        Long changed = changedAt.get(id);
+        return changed != null && changed - startedAt >= 0;
+    }
+
+    private static KeysetCursor keyOf(Event event) {
+        return KeysetCursor.of(event.getEventDate(), event.getId());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
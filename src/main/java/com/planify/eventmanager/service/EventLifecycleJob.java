@@ -0,0 +1,88 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.repository.EventBulkRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Completes published events once they have ended and archives completed events after
+ * {@code planify.events.archive-after}. Both steps run as short transactions of up to
+ * {@code planify.events.lifecycle-batch-size} events, so replicas can run the job concurrently
+ * and no batch holds locks for long.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventLifecycleJob {
+
+    private final EventBulkRepository eventBulkRepository;
+    private final GuestCounterRepository guestCounterRepository;
+    private final EventCache eventCache;
+    private final EventFeedIndex eventFeedIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${planify.events.lifecycle-batch-size}")
+    private int batchSize;
+
+    @Value("${planify.events.archive-after}")
+    private Duration archiveAfter;
+
+    @Scheduled(
+        fixedDelayString = "${planify.events.lifecycle-interval}",
+        initialDelayString = "${planify.events.lifecycle-interval}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        completeEndedEvents(now);
+        archiveCompletedEvents(now.minus(archiveAfter));
+    }
+
+    public int completeEndedEvents(LocalDateTime now) {
+        int completed = inBatches(limit -> eventBulkRepository.completeEnded(now, limit), eventIds -> {
+            eventIds.forEach(eventCache::evictEvent);
+            eventFeedIndex.refresh(eventIds);
+        });
+        if (completed > 0) {
+            log.info("Completed {} ended events", completed);
+        }
+        return completed;
+    }
+
+    public int archiveCompletedEvents(LocalDateTime cutoff) {
+        int archived = inBatches(limit -> {
+            List<Long> eventIds = eventBulkRepository.archiveCompleted(cutoff, limit);
+            guestCounterRepository.deleteByEventIds(eventIds);
+            return eventIds;
+        }, eventIds ->
+            eventIds.forEach(eventId -> {
+                eventCache.evictEvent(eventId);
+                eventFeedIndex.remove(eventId);
+            }));
+        if (archived > 0) {
+            log.info("Archived {} events completed before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    // Each batch commits before the next starts; a short batch means nothing is left
+    private int inBatches(Function<Integer, List<Long>> batch, Consumer<List<Long>> afterCommit) {
+        int total = 0;
+        List<Long> eventIds;
+        do {
+            eventIds = transactionTemplate.execute(status -> batch.apply(batchSize));
+            afterCommit.accept(eventIds);
+            total += eventIds.size();
+        } while (eventIds.size() == batchSize);
+        return total;
+    }
+}
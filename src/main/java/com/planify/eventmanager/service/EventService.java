@@ -1,16 +1,35 @@
 package com.planify.eventmanager.service;
 
-import com.planify.eventmanager.event.KafkaProducer;
+import com.planify.eventmanager.config.RetryOnConflict;
+import com.planify.eventmanager.dto.BatchStatusResult;
+import com.planify.eventmanager.dto.CursorPage;
+import com.planify.eventmanager.dto.EventSearchFilters;
+import com.planify.eventmanager.dto.EventSummary;
+import com.planify.eventmanager.dto.KeysetCursor;
+import com.planify.eventmanager.dto.SearchCursor;
+import com.planify.eventmanager.event.DomainEvent;
+import com.planify.eventmanager.event.DomainEventType;
+import com.planify.eventmanager.event.OutboxPublisher;
 import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.repository.EventBulkRepository;
 import com.planify.eventmanager.repository.EventRepository;
+import com.planify.eventmanager.repository.EventSearchRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
 import com.planify.eventmanager.repository.GuestListRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -18,34 +37,78 @@ import java.util.List;
 public class EventService {
     
     private final EventRepository eventRepository;
+    private final EventBulkRepository eventBulkRepository;
+    private final EventSearchRepository eventSearchRepository;
     private final GuestListRepository guestListRepository;
-    private final KafkaProducer kafkaProducer;
+    private final GuestCounterRepository guestCounterRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final EntityManager entityManager;
+    private final EventCache eventCache;
+    private final EventFeedIndex eventFeedIndex;
+    private final WaitlistPromoter waitlistPromoter;
+    
+    @Value("${planify.search.max-candidates}")
+    private int searchMaxCandidates;
+    
+    @Value("${planify.feed.listing-limit}")
+    private int feedListingLimit;
     
     // CRUD Operations    
+    @Transactional(readOnly = true)
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
     
     public Event getEventById(Long id) {
-        return eventRepository.findById(id)
+        return eventCache.getEvent(id, () -> loadEvent(id));
+    }
+    
+    /**
+     * The event's version, read from its row rather than the per-replica cache, which attendee count
+     * changes made on other replicas do not evict.
+     */
+    public EventBulkRepository.Version getEventVersion(Long id) {
+        return eventBulkRepository.findVersion(id)
             .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
     }
     
+    /**
+     * The event at {@code version} or later; a cached copy that does not match it is replaced.
+     */
+    public Event getEventById(Long id, EventBulkRepository.Version version) {
+        Event event = getEventById(id);
+        if (version.matches(event)) return event;
+        eventCache.evictEvent(id);
+        return eventCache.getEvent(id, () -> loadEvent(id));
+    }
+    
+    // Requested order, duplicates once, unknown IDs left out
+    public List<Event> getEventsByIds(List<Long> ids) {
+        return eventCache.getEvents(ids, eventBulkRepository::findByIds);
+    }
+    
     @Transactional
     public Event createEvent(Event event) {
         Event savedEvent = eventRepository.save(event);
+        eventCache.evictEvent(savedEvent.getId());
+        eventFeedIndex.put(savedEvent);
         
         // Publish event to Kafka
-        kafkaProducer.sendMessage("event-created", 
-            String.format("Event created: %s (ID: %d)", savedEvent.getTitle(), savedEvent.getId()));
+        outboxPublisher.publish(DomainEvent.ofEvent(DomainEventType.EVENT_CREATED, savedEvent));
         
         log.info("Created new event: {}", savedEvent.getId());
         return savedEvent;
     }
     
+    @RetryOnConflict
     @Transactional
     public Event updateEvent(Long id, Event eventDetails) {
-        Event event = getEventById(id);
+        Event event = loadEvent(id);
+        // A client sending the version it read must not overwrite changes made since; retrying cannot help
+        if (eventDetails.getVersion() != null && !eventDetails.getVersion().equals(event.getVersion())) {
+            throw new RuntimeException("Event " + id + " was modified concurrently: expected version "
+                + eventDetails.getVersion() + " but is " + event.getVersion());
+        }
         
         event.setTitle(eventDetails.getTitle());
         event.setDescription(eventDetails.getDescription());
@@ -53,70 +116,160 @@ public class EventService {
         event.setEndDate(eventDetails.getEndDate());
         event.setLocationId(eventDetails.getLocationId());
         event.setLocationName(eventDetails.getLocationName());
+        boolean seatsAdded = addsSeats(event.getMaxAttendees(), eventDetails.getMaxAttendees());
         event.setMaxAttendees(eventDetails.getMaxAttendees());
         event.setEventType(eventDetails.getEventType());
         event.setStatus(eventDetails.getStatus());
         
         Event updatedEvent = eventRepository.save(event);
+        eventCache.evictEvent(id);
+        eventFeedIndex.put(updatedEvent);
+        if (seatsAdded) {
+            waitlistPromoter.requestPromotion(id);
+        }
         
         // Publish update event to Kafka
-        kafkaProducer.sendMessage("event-updated", 
-            String.format("Event updated: %s (ID: %d)", updatedEvent.getTitle(), updatedEvent.getId()));
+        outboxPublisher.publish(DomainEvent.ofEvent(DomainEventType.EVENT_UPDATED, updatedEvent));
         
         log.info("Updated event: {}", updatedEvent.getId());
         return updatedEvent;
     }
     
+    @RetryOnConflict
     @Transactional
     public void deleteEvent(Long id) {
-        Event event = getEventById(id);
+        // The event row is locked before its guests and counters, like every other guest write
+        Event event = eventRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+        // guest_list and event_guest_counters are not tied to the partitioned events table by foreign keys
+        guestListRepository.deleteByEventId(id);
+        guestCounterRepository.deleteByEventIds(List.of(id));
         eventRepository.delete(event);
+        eventCache.evictEvent(id);
+        eventFeedIndex.remove(id);
         
         // Publish delete event to Kafka
-        kafkaProducer.sendMessage("event-deleted", 
-            String.format("Event deleted: ID %d", id));
+        outboxPublisher.publish(DomainEvent.ofEvent(DomainEventType.EVENT_DELETED, event));
         
         log.info("Deleted event: {}", id);
     }
     
     // Query Operations    
+    @Transactional(readOnly = true)
     public List<Event> getEventsByOrganizer(Long organizerId) {
         return eventRepository.findByOrganizerId(organizerId);
     }
     
+    @Transactional(readOnly = true)
     public List<Event> getEventsByStatus(Event.EventStatus status) {
         return eventRepository.findByStatus(status);
     }
     
+    // Served from the in-memory feed index; the earliest planify.feed.listing-limit events, the rest are paged
     public List<Event> getPublicEvents() {
-        return eventRepository.findByEventTypeOrderByEventDateAsc(Event.EventType.PUBLIC);
+        return eventFeedIndex.publicPage(null, feedListingLimit);
     }
     
     public List<Event> getUpcomingEvents() {
-        return eventRepository.findUpcomingEvents(LocalDateTime.now());
+        return eventFeedIndex.upcomingPage(LocalDateTime.now(), null, feedListingLimit);
     }
     
+    // Summary Views (indexed feeds are mapped in memory, other listings are projected in SQL)
+    @Transactional(readOnly = true)
+    public List<EventSummary> getEventSummariesByOrganizer(Long organizerId) {
+        return eventRepository.findSummariesByOrganizerId(organizerId);
+    }
+    
+    public List<EventSummary> getPublicEventSummaries() {
+        return getPublicEvents().stream().map(EventSummary::from).toList();
+    }
+    
+    public List<EventSummary> getUpcomingEventSummaries() {
+        return getUpcomingEvents().stream().map(EventSummary::from).toList();
+    }
+    
+    @Transactional(readOnly = true)
     public List<Event> getPastEvents() {
         return eventRepository.findPastEvents(LocalDateTime.now());
     }
     
+    @Transactional(readOnly = true)
     public List<Event> getEventsByDateRange(LocalDateTime start, LocalDateTime end) {
         return eventRepository.findByEventDateBetween(start, end);
     }
     
+    @Transactional(readOnly = true)
     public List<Event> getEventsByLocation(Long locationId) {
         return eventRepository.findByLocationId(locationId);
     }
     
+    // Keyset Pagination
+    @Transactional(readOnly = true)
+    public CursorPage<Event> getEventsPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Event> rows = after == null
+            ? eventRepository.findByOrderByEventDateAscIdAsc(Limit.of(pageSize + 1))
+            : eventRepository.findPageAfter(after.eventDate(), after.id(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, EventService::cursorOf);
+    }
+    
+    public CursorPage<Event> getPublicEventsPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Event> rows = eventFeedIndex.publicPage(KeysetCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, EventService::cursorOf);
+    }
+    
+    public CursorPage<Event> getUpcomingEventsPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Event> rows = eventFeedIndex.upcomingPage(LocalDateTime.now(), KeysetCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, EventService::cursorOf);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<Event> getPastEventsPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        List<Event> rows = before == null
+            ? eventRepository.findPastEventsPage(LocalDateTime.now(), Limit.of(pageSize + 1))
+            : eventRepository.findPastEventsPageBefore(before.eventDate(), before.id(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, EventService::cursorOf);
+    }
+    
+    // Search
+    public CursorPage<Event> searchEvents(String query, EventSearchFilters filters, String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<EventSearchRepository.Hit> hits = eventSearchRepository.search(query, filters, searchMaxCandidates, SearchCursor.decode(cursor), pageSize + 1);
+        List<Event> events = hits.stream().limit(pageSize).map(EventSearchRepository.Hit::event).toList();
+        if (hits.size() <= pageSize) {
+            return new CursorPage<>(events, null);
+        }
+        EventSearchRepository.Hit last = hits.get(pageSize - 1);
+        return new CursorPage<>(events, new SearchCursor(last.rank(), last.event().getId()).encode());
+    }
+    
+    // Streaming (rows are detached as soon as they are handed off, so memory stays flat)
+    @Transactional(readOnly = true)
+    public void streamAllEvents(Consumer<Event> consumer) {
+        drain(eventRepository.streamAll(), consumer);
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamPublicEvents(Consumer<Event> consumer) {
+        drain(eventRepository.streamByEventType(Event.EventType.PUBLIC), consumer);
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamPastEvents(Consumer<Event> consumer) {
+        drain(eventRepository.streamPastEvents(LocalDateTime.now()), consumer);
+    }
+    
     // Status Management    
     @Transactional
     public Event publishEvent(Long id) {
-        Event event = getEventById(id);
-        event.setStatus(Event.EventStatus.PUBLISHED);
-        Event published = eventRepository.save(event);
+        Event published = transitionStatus(id, Event.EventStatus.PUBLISHED, Event.EventStatus.DRAFT, Event.EventStatus.CANCELLED);
         
-        kafkaProducer.sendMessage("event-published", 
-            String.format("Event published: %s (ID: %d)", published.getTitle(), published.getId()));
+        outboxPublisher.publish(DomainEvent.ofEvent(DomainEventType.EVENT_PUBLISHED, published));
         
         log.info("Published event: {}", id);
         return published;
@@ -124,12 +277,9 @@ public class EventService {
     
     @Transactional
     public Event cancelEvent(Long id) {
-        Event event = getEventById(id);
-        event.setStatus(Event.EventStatus.CANCELLED);
-        Event cancelled = eventRepository.save(event);
+        Event cancelled = transitionStatus(id, Event.EventStatus.CANCELLED, Event.EventStatus.DRAFT, Event.EventStatus.PUBLISHED);
         
-        kafkaProducer.sendMessage("event-cancelled", 
-            String.format("Event cancelled: %s (ID: %d)", cancelled.getTitle(), cancelled.getId()));
+        outboxPublisher.publish(DomainEvent.ofEvent(DomainEventType.EVENT_CANCELLED, cancelled));
         
         log.info("Cancelled event: {}", id);
         return cancelled;
@@ -137,32 +287,116 @@ public class EventService {
     
     @Transactional
     public Event completeEvent(Long id) {
-        Event event = getEventById(id);
-        event.setStatus(Event.EventStatus.COMPLETED);
-        Event completed = eventRepository.save(event);
+        Event completed = transitionStatus(id, Event.EventStatus.COMPLETED, Event.EventStatus.PUBLISHED);
         
         log.info("Completed event: {}", id);
         return completed;
     }
     
+    // Batch Status Management (one statement and one outbox write per batch)
+    @Transactional
+    public BatchStatusResult publishEvents(List<Long> ids) {
+        BatchStatusResult result = transitionStatuses(ids, Event.EventStatus.PUBLISHED, Event.EventStatus.DRAFT, Event.EventStatus.CANCELLED);
+        outboxPublisher.publishAll(result.updated().stream()
+            .map(event -> DomainEvent.ofEvent(DomainEventType.EVENT_PUBLISHED, event))
+            .toList());
+        
+        log.info("Published {} events, skipped {}", result.updated().size(), result.skipped().size());
+        return result;
+    }
+    
+    @Transactional
+    public BatchStatusResult cancelEvents(List<Long> ids) {
+        BatchStatusResult result = transitionStatuses(ids, Event.EventStatus.CANCELLED, Event.EventStatus.DRAFT, Event.EventStatus.PUBLISHED);
+        outboxPublisher.publishAll(result.updated().stream()
+            .map(event -> DomainEvent.ofEvent(DomainEventType.EVENT_CANCELLED, event))
+            .toList());
+        
+        log.info("Cancelled {} events, skipped {}", result.updated().size(), result.skipped().size());
+        return result;
+    }
+    
+    @Transactional
+    public BatchStatusResult completeEvents(List<Long> ids) {
+        BatchStatusResult result = transitionStatuses(ids, Event.EventStatus.COMPLETED, Event.EventStatus.PUBLISHED);
+        
+        log.info("Completed {} events, skipped {}", result.updated().size(), result.skipped().size());
+        return result;
+    }
+    
     // Attendee Count Management    
     @Transactional
     public Event updateAttendeeCount(Long id) {
-        Event event = getEventById(id);
-        Long acceptedCount = guestListRepository.countByEventIdAndRsvpStatus(id, 
-            com.planify.eventmanager.model.GuestList.RsvpStatus.ACCEPTED);
-        event.setCurrentAttendees(acceptedCount.intValue());
-        return eventRepository.save(event);
+        // Counted only once the row is locked; a recount waiting on a concurrent accept would miss it
+        Event event = eventRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+        if (eventBulkRepository.recountAttendees(List.of(id)) > 0) {
+            entityManager.refresh(event);
+        }
+        eventCache.evictEvent(id);
+        return event;
     }
     
     public boolean isEventFull(Long id) {
-        Event event = getEventById(id);
+        return isEventFull(getEventById(id));
+    }
+    
+    public boolean isEventFull(Event event) {
         if (event.getMaxAttendees() == null) return false;
         return event.getCurrentAttendees() >= event.getMaxAttendees();
     }
     
     // Statistics    
+    @Transactional(readOnly = true)
     public Long countEventsByOrganizer(Long organizerId) {
         return eventRepository.countByOrganizerId(organizerId);
     }
+    
+    // Helper Methods
+    private Event loadEvent(Long id) {
+        return eventRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+    }
+    
+    // A single conditional UPDATE, so concurrent transitions of one event cannot overwrite each other
+    private Event transitionStatus(Long id, Event.EventStatus status, Event.EventStatus... from) {
+        Event event = eventBulkRepository.transitionStatus(id, List.of(from), status)
+            .orElseThrow(() -> new RuntimeException(eventRepository.existsById(id)
+                ? "Event " + id + " cannot change to " + status + " from its current status"
+                : "Event not found with id: " + id));
+        eventCache.evictEvent(id);
+        eventFeedIndex.put(event);
+        return event;
+    }
+    
+    private BatchStatusResult transitionStatuses(List<Long> ids, Event.EventStatus status, Event.EventStatus... from) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<Event> updated = eventBulkRepository.transitionStatuses(distinctIds, List.of(from), status);
+        Set<Long> updatedIds = new HashSet<>();
+        for (Event event : updated) {
+            updatedIds.add(event.getId());
+            eventCache.evictEvent(event.getId());
+            eventFeedIndex.put(event);
+        }
+        List<Long> skipped = distinctIds.stream().filter(id -> !updatedIds.contains(id)).toList();
+        return new BatchStatusResult(status, updated, skipped);
+    }
+    
+    // null means unlimited
+    private static boolean addsSeats(Integer before, Integer after) {
+        return before != null && (after == null || after > before);
+    }
+    
+    private static KeysetCursor cursorOf(Event event) {
+        return KeysetCursor.of(event.getEventDate(), event.getId());
+    }
+    
+    private void drain(Stream<Event> events, Consumer<Event> consumer) {
+        try (events) {
+            events.forEach(event -> {
+                consumer.accept(event);
+                entityManager.detach(event);
+            });
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.repository.EventBulkRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+import com.planify.eventmanager.repository.GuestListBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Periodically recomputes {@code event_guest_counters} of active events from {@code guest_list}
+ * to repair any drift left by the incremental updates (e.g. rows changed outside the service).
+ * Events are reconciled in ID order, {@code planify.guests.counter-reconcile-batch-size} per
+ * transaction, with their counter rows locked while their guests are counted. Guests and counters
+ * of events that no longer exist are deleted at the end of each run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuestCounterReconciler {
+    
+    private final GuestCounterRepository guestCounterRepository;
+    private final GuestListBulkRepository guestListBulkRepository;
+    private final EventBulkRepository eventBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${planify.guests.counter-reconcile-batch-size}")
+    private int batchSize;
+    
+    @Scheduled(
+        fixedDelayString = "${planify.guests.counter-reconcile-interval}",
+        initialDelayString = "${planify.guests.counter-reconcile-interval}")
+    public void reconcile() {
+        int corrected = 0;
+        long afterId = 0;
+        List<Long> eventIds;
+        do {
+            eventIds = eventBulkRepository.findActiveEventIdsAfter(afterId, batchSize);
+            List<Long> batch = eventIds;
+            corrected += transactionTemplate.execute(status -> guestCounterRepository.reconcile(batch));
+            if (!eventIds.isEmpty()) afterId = eventIds.get(eventIds.size() - 1);
+        } while (eventIds.size() == batchSize);
+        corrected += guestCounterRepository.deleteOrphaned();
+        int orphanedGuests = guestListBulkRepository.deleteOrphaned();
+        
+        if (corrected > 0) {
+            log.warn("Reconciled {} guest counters", corrected);
+        }
+        if (orphanedGuests > 0) {
+            log.warn("Deleted {} guest entries of events that no longer exist", orphanedGuests);
+        }
+    }
+}
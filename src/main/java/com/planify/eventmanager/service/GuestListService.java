@@ -1,17 +1,39 @@
 package com.planify.eventmanager.service;
 
-import com.planify.eventmanager.event.KafkaProducer;
-import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.config.RetryOnConflict;
+import com.planify.eventmanager.dto.BulkInviteResult;
+import com.planify.eventmanager.dto.CursorPage;
+import com.planify.eventmanager.dto.GuestStats;
+import com.planify.eventmanager.dto.GuestSummary;
+import com.planify.eventmanager.dto.KeysetCursor;
+import com.planify.eventmanager.dto.UserEvent;
+import com.planify.eventmanager.event.DomainEvent;
+import com.planify.eventmanager.event.DomainEventType;
+import com.planify.eventmanager.event.OutboxPublisher;
 import com.planify.eventmanager.model.GuestList;
+import com.planify.eventmanager.repository.EventBulkRepository;
 import com.planify.eventmanager.repository.EventRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+import com.planify.eventmanager.repository.GuestListBulkRepository;
 import com.planify.eventmanager.repository.GuestListRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -19,18 +41,72 @@ import java.util.List;
 public class GuestListService {
     
     private final GuestListRepository guestListRepository;
+    private final GuestListBulkRepository guestListBulkRepository;
+    private final GuestCounterRepository guestCounterRepository;
     private final EventRepository eventRepository;
-    private final KafkaProducer kafkaProducer;
+    private final EventBulkRepository eventBulkRepository;
+    private final EventService eventService;
+    private final EventCache eventCache;
+    private final OutboxPublisher outboxPublisher;
+    private final WaitlistPromoter waitlistPromoter;
+    private final EntityManager entityManager;
+    
+    @Value("${planify.guests.bulk-invite-batch-size}")
+    private int bulkInviteBatchSize;
     
     // CRUD Operations    
+    @Transactional(readOnly = true)
     public List<GuestList> getAllGuestsForEvent(Long eventId) {
         return guestListRepository.findByEventId(eventId);
     }
     
+    @Transactional(readOnly = true)
+    public List<GuestSummary> getGuestSummariesForEvent(Long eventId) {
+        return guestListRepository.findSummariesByEventId(eventId);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<GuestList> getGuestsForEventPage(Long eventId, String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<GuestList> rows = after == null
+            ? guestListRepository.findByEventIdOrderByIdAsc(eventId, Limit.of(pageSize + 1))
+            : guestListRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(eventId, after.id(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, guest -> KeysetCursor.of(guest.getId()));
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamGuestsForEvent(Long eventId, Consumer<GuestList> consumer) {
+        try (Stream<GuestList> guests = guestListRepository.streamByEventId(eventId)) {
+            guests.forEach(guest -> {
+                consumer.accept(guest);
+                entityManager.detach(guest);
+            });
+        }
+    }
+    
+    @Transactional(readOnly = true)
     public List<GuestList> getAllEventsForUser(Long userId) {
         return guestListRepository.findByUserId(userId);
     }
     
+    /**
+     * A page of the events a user is on the guest list of, with their entries, optionally only those
+     * with the given RSVP status. Upcoming events come soonest first, past ones most recent first.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserEvent> getEventsForUserPage(Long userId, UserEvent.Timeframe timeframe, GuestList.RsvpStatus status,
+                                                      String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        // The first page starts at (now, 0): event IDs are positive, so this splits exactly at now
+        KeysetCursor from = Objects.requireNonNullElseGet(KeysetCursor.decode(cursor), () -> KeysetCursor.of(LocalDateTime.now(), 0L));
+        List<UserEvent> rows = timeframe == UserEvent.Timeframe.PAST
+            ? guestListRepository.findUserEventsBefore(userId, status, from.eventDate(), from.id(), Limit.of(pageSize + 1))
+            : guestListRepository.findUserEventsAfter(userId, status, from.eventDate(), from.id(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> KeysetCursor.of(row.event().eventDate(), row.event().id()));
+    }
+    
+    @Transactional(readOnly = true)
     public GuestList getGuestEntry(Long eventId, Long userId) {
         return guestListRepository.findByEventIdAndUserId(eventId, userId)
             .orElseThrow(() -> new RuntimeException("Guest not found for event: " + eventId + " and user: " + userId));
@@ -38,9 +114,7 @@ public class GuestListService {
     
     @Transactional
     public GuestList inviteGuest(Long eventId, Long userId, GuestList.GuestRole role, String notes) {
-        // Check if event exists
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new RuntimeException("Event not found: " + eventId));
+        lockEvent(eventId);
         
         // Check if already invited
         if (guestListRepository.existsByEventIdAndUserId(eventId, userId)) {
@@ -56,53 +130,131 @@ public class GuestListService {
             .build();
         
         GuestList saved = guestListRepository.save(guestList);
+        countGuest(saved, 1);
         
         // Publish invite event to Kafka
-        kafkaProducer.sendMessage("guest-invited", 
-            String.format("User %d invited to event %d", userId, eventId));
+        outboxPublisher.publish(DomainEvent.ofGuest(DomainEventType.GUEST_INVITED, saved));
         
         log.info("Invited user {} to event {}", userId, eventId);
         return saved;
     }
     
+    @Transactional
+    public BulkInviteResult inviteGuests(Long eventId, List<Long> userIds, GuestList.GuestRole role, String notes) {
+        lockEvent(eventId);
+        
+        List<Long> distinctUserIds = userIds.stream()
+            .filter(Objects::nonNull)
+            .collect(LinkedHashSet<Long>::new, Set::add, Set::addAll)
+            .stream().toList();
+        GuestList.GuestRole guestRole = role != null ? role : GuestList.GuestRole.ATTENDEE;
+        LocalDateTime invitedAt = LocalDateTime.now();
+        
+        Set<Long> inserted = new HashSet<>();
+        for (int from = 0; from < distinctUserIds.size(); from += bulkInviteBatchSize) {
+            List<Long> chunk = distinctUserIds.subList(from, Math.min(from + bulkInviteBatchSize, distinctUserIds.size()));
+            inserted.addAll(guestListBulkRepository.insertPendingGuests(eventId, chunk, guestRole, notes, invitedAt));
+        }
+        
+        List<Long> invited = new ArrayList<>(inserted.size());
+        List<Long> alreadyInvited = new ArrayList<>();
+        for (Long userId : distinctUserIds) {
+            (inserted.contains(userId) ? invited : alreadyInvited).add(userId);
+        }
+        guestCounterRepository.applyDeltas(eventId, Map.of(
+            GuestCounterRepository.TOTAL, (long) invited.size(),
+            GuestCounterRepository.status(GuestList.RsvpStatus.PENDING), (long) invited.size(),
+            GuestCounterRepository.role(guestRole), (long) invited.size()));
+        
+        // Publish invite events to Kafka as one batch
+        outboxPublisher.publishAll(invited.stream()
+            .map(userId -> DomainEvent.of(DomainEventType.GUEST_INVITED, eventId,
+                new DomainEvent.GuestPayload(eventId, userId, GuestList.RsvpStatus.PENDING, guestRole)))
+            .toList());
+        
+        log.info("Bulk invited {} users to event {} ({} already invited)", invited.size(), eventId, alreadyInvited.size());
+        return new BulkInviteResult(eventId, distinctUserIds.size(), invited, alreadyInvited);
+    }
+    
+    @RetryOnConflict
     @Transactional
     public void removeGuest(Long eventId, Long userId) {
+        lockEvent(eventId);
         GuestList guest = getGuestEntry(eventId, userId);
         guestListRepository.delete(guest);
         
+        // The event row is locked before the counters, like every other guest write
+        if (guest.getRsvpStatus() == GuestList.RsvpStatus.ACCEPTED) {
+            eventRepository.adjustAttendeeCount(eventId, -1);
+            eventCache.evictEvent(eventId);
+            waitlistPromoter.requestPromotion(eventId);
+        }
+        countGuest(guest, -1);
+        
         // Publish remove event to Kafka
-        kafkaProducer.sendMessage("guest-removed", 
-            String.format("User %d removed from event %d", userId, eventId));
+        outboxPublisher.publish(DomainEvent.ofGuest(DomainEventType.GUEST_REMOVED, guest));
         
         log.info("Removed user {} from event {}", userId, eventId);
     }
     
     // RSVP Management    
+    @RetryOnConflict
     @Transactional
     public GuestList updateRsvp(Long eventId, Long userId, GuestList.RsvpStatus status) {
-        GuestList guest = getGuestEntry(eventId, userId);
-        guest.setRsvpStatus(status);
-        guest.setRespondedAt(LocalDateTime.now());
-        
-        GuestList updated = guestListRepository.save(guest);
+        if (status == GuestList.RsvpStatus.WAITLISTED) {
+            throw new RuntimeException("Guests are waitlisted by accepting a full event, not directly");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        lockEvent(eventId);
         
-        // Publish update event to Kafka
-        kafkaProducer.sendMessage("rsvp-updated", 
-            String.format("User %d RSVP %s for event %d", userId, status, eventId));
+        // One UPDATE that also reports the previous status, so nothing is read before it is changed
+        GuestListBulkRepository.RsvpChange change = guestListBulkRepository.updateRsvp(eventId, userId, status, now)
+            .orElseThrow(() -> new RuntimeException("Guest not found for event: " + eventId + " and user: " + userId));
+        GuestList.RsvpStatus previous = change.previous();
+        GuestList guest = change.guest();
+        int delta = attendeeDelta(previous, status);
         
-        log.info("User {} RSVP {} for event {}", userId, status, eventId);
+        // An accept without a free seat, or with guests already queued for one, joins the waitlist; a
+        // waitlisted guest accepting again keeps their place. Only the atomic reservation decides: a
+        // cached event may be stale on this replica and would waitlist guests while seats are free
+        if (delta > 0 && eventRepository.reserveSeat(eventId) == 0) {
+            guest = guestListBulkRepository.waitlist(eventId, userId,
+                previous == GuestList.RsvpStatus.WAITLISTED ? guest.getWaitlistedAt() : now);
+            delta = 0;
+        }
+        if (delta < 0) {
+            eventRepository.adjustAttendeeCount(eventId, delta);
+        }
+        if (previous != guest.getRsvpStatus()) {
+            guestCounterRepository.applyDeltas(eventId, Map.of(
+                GuestCounterRepository.status(previous), -1L,
+                GuestCounterRepository.status(guest.getRsvpStatus()), 1L));
+        } else {
+            // Only responded_at changed
+            guestCounterRepository.touch(eventId);
+        }
+        if (delta != 0) {
+            eventCache.evictEvent(eventId);
+        }
+        // A waitlisted guest may have raced a seat being freed; requests for one event are coalesced
+        if (delta < 0 || guest.getRsvpStatus() == GuestList.RsvpStatus.WAITLISTED) {
+            waitlistPromoter.requestPromotion(eventId);
+        }
         
-        // Update event attendee count
-        updateEventAttendeeCount(eventId);
+        // Publish update event to Kafka
+        outboxPublisher.publish(DomainEvent.ofGuest(DomainEventType.RSVP_UPDATED, guest));
         
-        return updated;
+        log.info("User {} RSVP {} for event {}", userId, guest.getRsvpStatus(), eventId);
+        return guest;
     }
     
+    @RetryOnConflict
     @Transactional
     public GuestList acceptInvitation(Long eventId, Long userId) {
         return updateRsvp(eventId, userId, GuestList.RsvpStatus.ACCEPTED);
     }
     
+    @RetryOnConflict
     @Transactional
     public GuestList declineInvitation(Long eventId, Long userId) {
         return updateRsvp(eventId, userId, GuestList.RsvpStatus.DECLINED);
@@ -111,63 +263,109 @@ public class GuestListService {
     // Check-in Management    
     @Transactional
     public GuestList checkInGuest(Long eventId, Long userId) {
-        GuestList guest = getGuestEntry(eventId, userId);
-        
-        if (!guest.getRsvpStatus().equals(GuestList.RsvpStatus.ACCEPTED)) {
-            throw new RuntimeException("Guest has not accepted invitation");
+        lockEvent(eventId);
+        List<GuestList> written = guestListBulkRepository.markCheckedIn(eventId, List.of(userId), List.of(LocalDateTime.now()));
+        if (written.isEmpty()) {
+            // Nothing changed: the guest is missing, has not accepted, or is already checked in
+            GuestList guest = getGuestEntry(eventId, userId);
+            if (!guest.getRsvpStatus().equals(GuestList.RsvpStatus.ACCEPTED)) {
+                throw new RuntimeException("Guest has not accepted invitation");
+            }
+            return guest;
         }
         
-        guest.setCheckedIn(true);
-        guest.setCheckedInAt(LocalDateTime.now());
-        
-        GuestList checkedIn = guestListRepository.save(guest);
+        GuestList checkedIn = written.get(0);
+        guestCounterRepository.applyDeltas(eventId, Map.of(GuestCounterRepository.CHECKED_IN, 1L));
         
         // Publish check-in event to Kafka
-        kafkaProducer.sendMessage("guest-checked-in", 
-            String.format("User %d checked in to event %d", userId, eventId));
+        outboxPublisher.publish(DomainEvent.ofGuest(DomainEventType.GUEST_CHECKED_IN, checkedIn));
         
         log.info("User {} checked in to event {}", userId, eventId);
         return checkedIn;
     }
     
+    @Transactional(readOnly = true)
     public List<GuestList> getCheckedInGuests(Long eventId) {
         return guestListRepository.findByEventIdAndCheckedIn_True(eventId);
     }
     
+    @Transactional(readOnly = true)
     public Long countCheckedInGuests(Long eventId) {
         return guestListRepository.countByEventIdAndCheckedIn_True(eventId);
     }
     
     // Query Operations     
+    @Transactional(readOnly = true)
     public List<GuestList> getGuestsByStatus(Long eventId, GuestList.RsvpStatus status) {
         return guestListRepository.findByEventIdAndRsvpStatus(eventId, status);
     }
     
+    @Transactional(readOnly = true)
+    public List<GuestList> getWaitlist(Long eventId) {
+        return guestListRepository.findByEventIdAndRsvpStatusOrderByWaitlistedAtAscIdAsc(eventId, GuestList.RsvpStatus.WAITLISTED);
+    }
+    
+    @Transactional(readOnly = true)
     public List<GuestList> getGuestsByRole(Long eventId, GuestList.GuestRole role) {
         return guestListRepository.findByEventIdAndRole(eventId, role);
     }
     
+    @Transactional(readOnly = true)
     public boolean isUserInvited(Long eventId, Long userId) {
         return guestListRepository.existsByEventIdAndUserId(eventId, userId);
     }
     
     // Statistics    
+    /**
+     * Moves with every change to the event's guest list, so it validates any listing or count of it.
+     */
+    public GuestCounterRepository.Version getGuestListVersion(Long eventId) {
+        return guestCounterRepository.findVersion(eventId);
+    }
+    
+    @Transactional(readOnly = true)
     public Long countTotalGuests(Long eventId) {
         return guestListRepository.countByEventId(eventId);
     }
     
+    @Transactional(readOnly = true)
     public Long countGuestsByStatus(Long eventId, GuestList.RsvpStatus status) {
         return guestListRepository.countByEventIdAndRsvpStatus(eventId, status);
     }
     
+    public GuestStats getGuestStats(Long eventId) {
+        // Check if event exists
+        eventService.getEventById(eventId);
+        return GuestStats.from(eventId, guestCounterRepository.findByEventId(eventId));
+    }
+    
+    public List<GuestStats> getGuestStats(List<Long> eventIds) {
+        List<Long> distinctIds = eventIds.stream().distinct().toList();
+        Map<Long, Map<String, Long>> counters = guestCounterRepository.findByEventIds(distinctIds);
+        return distinctIds.stream()
+            .map(eventId -> GuestStats.from(eventId, counters.getOrDefault(eventId, Map.of())))
+            .toList();
+    }
+    
+    public List<GuestStats> getGuestStatsForOrganizer(Long organizerId) {
+        return getGuestStats(eventRepository.findIdsByOrganizerId(organizerId));
+    }
+    
     // Helper Methods
-    private void updateEventAttendeeCount(Long eventId) {
-        Event event = eventRepository.findById(eventId).orElse(null);
-        if (event != null) {
-            Long acceptedCount = guestListRepository.countByEventIdAndRsvpStatus(eventId, 
-                GuestList.RsvpStatus.ACCEPTED);
-            event.setCurrentAttendees(acceptedCount.intValue());
-            eventRepository.save(event);
+    // Taken before any guest row, so the event is locked first like in every other guest write
+    private void lockEvent(Long eventId) {
+        if (!eventBulkRepository.lockKey(eventId)) {
+            throw new RuntimeException("Event not found with id: " + eventId);
         }
     }
+    
+    private void countGuest(GuestList guest, long sign) {
+        guestCounterRepository.applyDeltas(guest.getEventId(), GuestCounterRepository.deltasOf(List.of(guest), sign));
+    }
+    
+    private static int attendeeDelta(GuestList.RsvpStatus previous, GuestList.RsvpStatus next) {
+        int before = previous == GuestList.RsvpStatus.ACCEPTED ? 1 : 0;
+        int after = next == GuestList.RsvpStatus.ACCEPTED ? 1 : 0;
+        return after - before;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.repository.EventBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps monthly {@code events} partitions created {@code planify.partitions.months-ahead} months in
+ * advance, so new events land in their own month rather than the default partition. Creating a
+ * partition that already exists is a no-op, so replicas can all run the job.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceJob {
+
+    private final EventBulkRepository eventBulkRepository;
+
+    @Value("${planify.partitions.months-ahead}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${planify.partitions.maintenance-interval}",
+        initialDelayString = "${planify.partitions.maintenance-interval}")
+    public void run() {
+        createPartitions(LocalDate.now());
+    }
+
+    public int createPartitions(LocalDate today) {
+        LocalDate month = today.withDayOfMonth(1);
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            if (eventBulkRepository.ensureMonthlyPartition(month.plusMonths(i))) {
+                log.info("Created events partition for {}", month.plusMonths(i));
+                created++;
+            }
+        }
+        return created;
+    }
+}
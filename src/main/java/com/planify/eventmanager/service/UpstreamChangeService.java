@@ -0,0 +1,92 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.event.DomainEvent;
+import com.planify.eventmanager.event.DomainEventType;
+import com.planify.eventmanager.event.OutboxPublisher;
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+import com.planify.eventmanager.repository.EventBulkRepository;
+import com.planify.eventmanager.repository.EventRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+import com.planify.eventmanager.repository.GuestListBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Applies changes announced by other Planify services (booking, user) in bulk. Each method is
+ * idempotent, so a batch redelivered after a failed offset commit changes nothing the second time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpstreamChangeService {
+
+    private final EventBulkRepository eventBulkRepository;
+    private final EventRepository eventRepository;
+    private final GuestListBulkRepository guestListBulkRepository;
+    private final GuestCounterRepository guestCounterRepository;
+    private final EventCache eventCache;
+    private final OutboxPublisher outboxPublisher;
+    private final WaitlistPromoter waitlistPromoter;
+
+    @Transactional
+    public int applyLocationNames(Map<Long, String> namesByLocationId) {
+        List<Event> updated = eventBulkRepository.updateLocationNames(namesByLocationId);
+        if (updated.isEmpty()) return 0;
+
+        // Feed indexes (this replica's included) re-read the events when the updates below are consumed
+        updated.forEach(event -> eventCache.evictEvent(event.getId()));
+
+        // Publish update events to Kafka
+        outboxPublisher.publishAll(updated.stream()
+            .map(event -> DomainEvent.ofEvent(DomainEventType.EVENT_UPDATED, event))
+            .toList());
+
+        log.info("Renamed {} locations across {} events", namesByLocationId.size(), updated.size());
+        return updated.size();
+    }
+
+    @Transactional
+    public int removeDeletedUsers(Collection<Long> userIds) {
+        // The events are locked before the guest rows, like in every other guest write
+        eventBulkRepository.lockKeys(guestListBulkRepository.findEventIdsByUserIds(userIds));
+        List<GuestList> removed = guestListBulkRepository.deleteByUserIds(userIds);
+        // Archived events keep no attendee counts or counters to adjust
+        int archived = guestListBulkRepository.deleteArchivedByUserIds(userIds);
+        if (archived > 0) {
+            log.info("Removed {} archived guest entries of deleted users", archived);
+        }
+        if (removed.isEmpty()) return 0;
+
+        // Events in ID order, so concurrent removals lock their rows in the same order
+        Map<Long, List<GuestList>> byEvent = removed.stream()
+            .collect(Collectors.groupingBy(GuestList::getEventId, TreeMap::new, Collectors.toList()));
+        byEvent.forEach((eventId, guests) -> {
+            int accepted = (int) guests.stream()
+                .filter(guest -> guest.getRsvpStatus() == GuestList.RsvpStatus.ACCEPTED)
+                .count();
+            if (accepted > 0) {
+                eventRepository.adjustAttendeeCount(eventId, -accepted);
+                eventCache.evictEvent(eventId);
+                waitlistPromoter.requestPromotion(eventId);
+            }
+            guestCounterRepository.applyDeltas(eventId, GuestCounterRepository.deltasOf(guests, -1));
+        });
+
+        // Publish remove events to Kafka
+        outboxPublisher.publishAll(removed.stream()
+            .map(guest -> DomainEvent.ofGuest(DomainEventType.GUEST_REMOVED, guest))
+            .toList());
+
+        log.info("Removed {} guest entries of deleted users from {} events", removed.size(), byEvent.size());
+        return removed.size();
+    }
+}
@@ -0,0 +1,168 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.event.DomainEvent;
+import com.planify.eventmanager.event.DomainEventType;
+import com.planify.eventmanager.event.OutboxPublisher;
+import com.planify.eventmanager.model.GuestList;
+import com.planify.eventmanager.repository.EventBulkRepository;
+import com.planify.eventmanager.repository.EventRepository;
+import com.planify.eventmanager.repository.GuestCounterRepository;
+import com.planify.eventmanager.repository.GuestListBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Moves waitlisted guests into seats freed by declines, removals or a raised capacity, in the order
+ * they joined the waitlist. Requests run on the application task executor once the freeing
+ * transaction commits, and a burst of requests for one event collapses into a single run. Each
+ * batch locks the event row, so replicas and concurrent accepts never hand out the same seat twice.
+ * A scheduled sweep picks up promotions a stopped replica never ran.
+ */
+@Component
+@Slf4j
+public class WaitlistPromoter {
+
+    private final EventBulkRepository eventBulkRepository;
+    private final EventRepository eventRepository;
+    private final GuestListBulkRepository guestListBulkRepository;
+    private final GuestCounterRepository guestCounterRepository;
+    private final EventCache eventCache;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int batchSize;
+
+    // Events with a promotion queued on the executor but not yet started
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public WaitlistPromoter(EventBulkRepository eventBulkRepository,
+                            EventRepository eventRepository,
+                            GuestListBulkRepository guestListBulkRepository,
+                            GuestCounterRepository guestCounterRepository,
+                            EventCache eventCache,
+                            OutboxPublisher outboxPublisher,
+                            TransactionTemplate transactionTemplate,
+                            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+                            @Value("${planify.guests.waitlist-batch-size}") int batchSize) {
+        this.eventBulkRepository = eventBulkRepository;
+        this.eventRepository = eventRepository;
+        this.guestListBulkRepository = guestListBulkRepository;
+        this.guestCounterRepository = guestCounterRepository;
+        this.eventCache = eventCache;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Promotes the event's waitlist asynchronously after the current transaction commits, or right
+     * away outside one.
+     */
+    public void requestPromotion(Long eventId) {
+        afterCommit(() -> {
+            if (!pending.add(eventId)) return;
+            try {
+                executor.execute(() -> {
+                    // Cleared first, so a seat freed while this run is in progress queues another one
+                    pending.remove(eventId);
+                    try {
+                        promote(eventId);
+                    } catch (RuntimeException e) {
+                        log.warn("Promoting the waitlist of event {} failed; the next sweep retries", eventId, e);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                pending.remove(eventId);
+                log.warn("Promotion of event {} rejected; the next sweep retries", eventId, e);
+            }
+        });
+    }
+
+    @Scheduled(
+        fixedDelayString = "${planify.guests.waitlist-sweep-interval}",
+        initialDelayString = "${planify.guests.waitlist-sweep-interval}")
+    public void sweep() {
+        int promoted = 0;
+        for (Long eventId : guestListBulkRepository.findEventsWithPromotableWaitlist()) {
+            // One failing event must not hold up the others
+            try {
+                promoted += promote(eventId);
+            } catch (RuntimeException e) {
+                log.warn("Sweep could not promote the waitlist of event {}; the next sweep retries", eventId, e);
+            }
+        }
+        if (promoted > 0) {
+            log.info("Sweep promoted {} waitlisted guests", promoted);
+        }
+    }
+
+    /**
+     * Fills the event's free seats from its waitlist, one short transaction per batch, and returns
+     * the number of guests promoted.
+     */
+    public int promote(Long eventId) {
+        int total = 0;
+        List<GuestList> promoted;
+        // A batch can come back short while guests are still waiting, so only an empty one ends the run
+        do {
+            promoted = transactionTemplate.execute(status -> promoteBatch(eventId));
+            total += promoted.size();
+        } while (!promoted.isEmpty());
+
+        if (total > 0) {
+            eventCache.evictEvent(eventId);
+            log.info("Promoted {} waitlisted guests of event {}", total, eventId);
+        }
+        return total;
+    }
+
+    private List<GuestList> promoteBatch(Long eventId) {
+        int freeSeats = eventBulkRepository.lockFreeSeats(eventId);
+        if (freeSeats <= 0) return List.of();
+
+        List<GuestList> promoted = guestListBulkRepository.promoteWaitlisted(eventId, Math.min(freeSeats, batchSize));
+        if (promoted.isEmpty()) return promoted;
+
+        // The seats were counted under the event row lock, so this only fails if the count is broken
+        if (eventRepository.adjustAttendeeCount(eventId, promoted.size()) == 0) {
+            throw new RuntimeException("Cannot seat " + promoted.size() + " waitlisted guests of event " + eventId);
+        }
+        guestCounterRepository.applyDeltas(eventId, Map.of(
+            GuestCounterRepository.status(GuestList.RsvpStatus.WAITLISTED), (long) -promoted.size(),
+            GuestCounterRepository.status(GuestList.RsvpStatus.ACCEPTED), (long) promoted.size()));
+
+        // Publish update events to Kafka
+        outboxPublisher.publishAll(promoted.stream()
+            .map(guest -> DomainEvent.ofGuest(DomainEventType.RSVP_UPDATED, guest))
+            .toList());
+        return promoted;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
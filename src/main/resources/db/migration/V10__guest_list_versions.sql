@@ -0,0 +1,5 @@
+-- Guest-list ETags: the 'version' counter of an event is bumped by every change to its guest list, and
+-- updated_at records when each counter last changed (Last-Modified of the guest list).
+ALTER TABLE event_guest_counters ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+COMMENT ON COLUMN event_guest_counters.updated_at IS 'When the counter last changed';
@@ -0,0 +1,42 @@
+-- Full-text search over events: title (weight A), location name (B) and description (C). The 'simple'
+-- configuration keeps words unstemmed, so prefix queries match what users are typing.
+ALTER TABLE events ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(location_name, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_events_search ON events USING GIN (search_vector);
+
+-- New monthly partitions must carry the generated column, and rows moved out of the default
+-- partition cannot supply a value for it
+CREATE OR REPLACE FUNCTION ensure_events_partition(month_start DATE) RETURNS BOOLEAN
+LANGUAGE plpgsql
+SET search_path FROM CURRENT
+AS $$
+DECLARE
+    from_date DATE := date_trunc('month', month_start)::date;
+    to_date DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    partition_name TEXT := 'events_' || to_char(date_trunc('month', month_start), 'YYYY_MM');
+    stored_columns TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_events_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO stored_columns
+    FROM pg_attribute
+    WHERE attrelid = 'events'::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+
+    EXECUTE format('CREATE TABLE %I (LIKE events INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)',
+                   partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM events_default WHERE event_date >= %L AND event_date < %L RETURNING %s) '
+                   'INSERT INTO %I (%s) SELECT %s FROM moved',
+                   from_date, to_date, stored_columns, partition_name, stored_columns, stored_columns);
+    EXECUTE format('ALTER TABLE events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_date, to_date);
+    RETURN TRUE;
+END $$;
+
+ANALYZE events;
@@ -0,0 +1,2 @@
+-- The feed index refresh re-reads events changed since its previous run
+CREATE INDEX idx_events_updated_at ON events(updated_at);
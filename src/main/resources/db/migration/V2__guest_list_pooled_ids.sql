@@ -0,0 +1,2 @@
+-- GuestList ids move from IDENTITY to a pooled sequence (allocationSize = 50) so Hibernate can batch inserts
+ALTER SEQUENCE guest_list_id_seq INCREMENT BY 50;
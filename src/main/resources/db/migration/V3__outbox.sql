@@ -0,0 +1,11 @@
+-- Transactional outbox: domain events are written here in the same transaction as the
+-- state change and relayed to Kafka by OutboxRelay
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE outbox_events IS 'Pending Kafka messages, deleted once acknowledged by the broker';
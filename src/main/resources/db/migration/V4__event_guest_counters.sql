@@ -0,0 +1,24 @@
+-- Per-event guest counters, maintained incrementally by the service so dashboards
+-- never need to scan guest_list. Keys: total, status:<RSVP>, role:<ROLE>, checked_in
+CREATE TABLE event_guest_counters (
+    event_id BIGINT NOT NULL,
+    counter VARCHAR(64) NOT NULL,
+    value BIGINT NOT NULL DEFAULT 0,
+    
+    CONSTRAINT event_guest_counters_pk PRIMARY KEY (event_id, counter),
+    CONSTRAINT event_guest_counters_event_fk FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE
+);
+
+INSERT INTO event_guest_counters (event_id, counter, value)
+SELECT g.event_id, c.counter, COUNT(*)
+FROM guest_list g
+CROSS JOIN LATERAL (VALUES
+    ('total'),
+    ('status:' || g.rsvp_status),
+    ('role:' || g.role),
+    (CASE WHEN g.checked_in THEN 'checked_in' END)
+) AS c(counter)
+WHERE c.counter IS NOT NULL
+GROUP BY g.event_id, c.counter;
+
+COMMENT ON TABLE event_guest_counters IS 'Incrementally maintained guest statistics per event';
@@ -0,0 +1,30 @@
+-- Indexes matched to the EventRepository / GuestListRepository finders.
+-- Single-column indexes that are a prefix of a new composite index are dropped.
+
+-- Events: keyset pagination and past/upcoming listings order by (event_date, id)
+CREATE INDEX idx_events_date_id ON events(event_date, id);
+DROP INDEX idx_events_date;
+
+-- Upcoming feed only ever reads published events
+CREATE INDEX idx_events_published_date ON events(event_date, id) WHERE status = 'PUBLISHED';
+
+-- Organizer dashboards filter by organizer and optionally status
+CREATE INDEX idx_events_organizer_status ON events(organizer_id, status);
+DROP INDEX idx_events_organizer;
+
+-- Public/private listings filter by type and order by date
+CREATE INDEX idx_events_type_date_id ON events(event_type, event_date, id);
+DROP INDEX idx_events_type;
+
+-- Guest list: keyset pagination and streaming per event order by id
+CREATE INDEX idx_guest_list_event_id ON guest_list(event_id, id);
+DROP INDEX idx_guest_list_event;
+
+-- Status filters and counts per event; covers the check-in session preload (ORDER BY user_id)
+CREATE INDEX idx_guest_list_event_status ON guest_list(event_id, rsvp_status, user_id) INCLUDE (checked_in);
+DROP INDEX idx_guest_list_status;
+
+CREATE INDEX idx_guest_list_event_role ON guest_list(event_id, role);
+
+-- Checked-in guests are a minority until the doors open
+CREATE INDEX idx_guest_list_event_checked_in ON guest_list(event_id) WHERE checked_in;
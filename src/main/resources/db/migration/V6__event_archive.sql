@@ -0,0 +1,45 @@
+-- Completed events past the retention window are moved here with their guests by
+-- EventLifecycleJob, keeping events and guest_list limited to live and recent data.
+CREATE TABLE events_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    event_date TIMESTAMP NOT NULL,
+    end_date TIMESTAMP,
+    location_id BIGINT,
+    location_name VARCHAR(500),
+    organizer_id BIGINT NOT NULL,
+    max_attendees INTEGER,
+    current_attendees INTEGER,
+    event_type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_events_archive_organizer ON events_archive(organizer_id);
+
+CREATE TABLE guest_list_archive (
+    id BIGINT PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    rsvp_status VARCHAR(50) NOT NULL,
+    role VARCHAR(50),
+    invited_at TIMESTAMP NOT NULL,
+    responded_at TIMESTAMP,
+    checked_in BOOLEAN,
+    checked_in_at TIMESTAMP,
+    notes TEXT,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_guest_list_archive_event ON guest_list_archive(event_id);
+CREATE INDEX idx_guest_list_archive_user ON guest_list_archive(user_id);
+
+-- Completion and archival both pick events by when they ended
+CREATE INDEX idx_events_ended ON events ((COALESCE(end_date, event_date)), id)
+    WHERE status IN ('PUBLISHED', 'COMPLETED');
+
+COMMENT ON TABLE events_archive IS 'Completed events moved out of events after the retention window';
+COMMENT ON TABLE guest_list_archive IS 'Guest list rows of archived events';
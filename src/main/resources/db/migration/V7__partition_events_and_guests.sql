@@ -0,0 +1,127 @@
+-- events becomes range-partitioned by event_date month and guest_list hash-partitioned by event_id.
+-- Date-range listings then only touch the months they ask for, and per-event guest queries a single
+-- partition. Partitioned tables need the partition key in every unique constraint, so:
+--   * events is keyed by (id, event_date); ids still come from events_id_seq and stay unique
+--   * guest_list is keyed by (id, event_id)
+--   * guest_list and event_guest_counters can no longer reference events(id); EventService and
+--     EventLifecycleJob delete an event's guests and counters themselves
+
+ALTER TABLE events RENAME TO events_unpartitioned;
+ALTER TABLE guest_list RENAME TO guest_list_unpartitioned;
+
+CREATE TABLE events (
+    id BIGINT NOT NULL DEFAULT nextval('events_id_seq'),
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    event_date TIMESTAMP NOT NULL,
+    end_date TIMESTAMP,
+    location_id BIGINT,
+    location_name VARCHAR(500),
+    organizer_id BIGINT NOT NULL,
+    max_attendees INTEGER,
+    current_attendees INTEGER DEFAULT 0,
+    event_type VARCHAR(50) NOT NULL DEFAULT 'PRIVATE',
+    status VARCHAR(50) NOT NULL DEFAULT 'DRAFT',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) PARTITION BY RANGE (event_date);
+
+-- Catches dates no monthly partition covers yet
+CREATE TABLE events_default PARTITION OF events DEFAULT;
+
+CREATE TABLE guest_list (
+    id BIGINT NOT NULL DEFAULT nextval('guest_list_id_seq'),
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    rsvp_status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    role VARCHAR(50) DEFAULT 'ATTENDEE',
+    invited_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    responded_at TIMESTAMP,
+    checked_in BOOLEAN DEFAULT FALSE,
+    checked_in_at TIMESTAMP,
+    notes TEXT
+) PARTITION BY HASH (event_id);
+
+DO $$
+BEGIN
+    FOR remainder IN 0..7 LOOP
+        EXECUTE format('CREATE TABLE guest_list_p%s PARTITION OF guest_list FOR VALUES WITH (MODULUS 8, REMAINDER %s)',
+                       remainder, remainder);
+    END LOOP;
+END $$;
+
+-- Creates the monthly events partition containing month_start unless it exists, moving any rows the
+-- default partition already holds for that month. Returns whether a partition was created.
+-- Called by PartitionMaintenanceJob; the advisory lock serializes replicas running it at once.
+CREATE FUNCTION ensure_events_partition(month_start DATE) RETURNS BOOLEAN
+LANGUAGE plpgsql
+SET search_path FROM CURRENT
+AS $$
+DECLARE
+    from_date DATE := date_trunc('month', month_start)::date;
+    to_date DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    partition_name TEXT := 'events_' || to_char(date_trunc('month', month_start), 'YYYY_MM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_events_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM events_default WHERE event_date >= %L AND event_date < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved', from_date, to_date, partition_name);
+    EXECUTE format('ALTER TABLE events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_date, to_date);
+    RETURN TRUE;
+END $$;
+
+-- The past year and the next; older dates land in the default partition until archived
+SELECT ensure_events_partition((date_trunc('month', CURRENT_DATE) + month * INTERVAL '1 month')::date)
+FROM generate_series(-12, 12) AS month;
+
+INSERT INTO events (id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+                    max_attendees, current_attendees, event_type, status, created_at, updated_at)
+SELECT id, title, description, event_date, end_date, location_id, location_name, organizer_id,
+       max_attendees, current_attendees, event_type, status, created_at, updated_at
+FROM events_unpartitioned;
+
+INSERT INTO guest_list (id, event_id, user_id, rsvp_status, role, invited_at, responded_at, checked_in, checked_in_at, notes)
+SELECT id, event_id, user_id, rsvp_status, role, invited_at, responded_at, checked_in, checked_in_at, notes
+FROM guest_list_unpartitioned;
+
+-- Moving sequence ownership keeps the sequences alive when the old tables are dropped
+ALTER SEQUENCE events_id_seq OWNED BY events.id;
+ALTER SEQUENCE guest_list_id_seq OWNED BY guest_list.id;
+
+ALTER TABLE event_guest_counters DROP CONSTRAINT event_guest_counters_event_fk;
+DROP TABLE guest_list_unpartitioned;
+DROP TABLE events_unpartitioned;
+
+-- Keys and indexes are created on the parents once the data is in, and cascade to every partition
+ALTER TABLE events ADD CONSTRAINT events_pkey PRIMARY KEY (id, event_date);
+CREATE INDEX idx_events_status ON events(status);
+CREATE INDEX idx_events_location ON events(location_id);
+CREATE INDEX idx_events_date_id ON events(event_date, id);
+CREATE INDEX idx_events_published_date ON events(event_date, id) WHERE status = 'PUBLISHED';
+CREATE INDEX idx_events_organizer_status ON events(organizer_id, status);
+CREATE INDEX idx_events_type_date_id ON events(event_type, event_date, id);
+CREATE INDEX idx_events_ended ON events ((COALESCE(end_date, event_date)), id)
+    WHERE status IN ('PUBLISHED', 'COMPLETED');
+
+ALTER TABLE guest_list ADD CONSTRAINT guest_list_pkey PRIMARY KEY (id, event_id);
+ALTER TABLE guest_list ADD CONSTRAINT guest_list_unique UNIQUE (event_id, user_id);
+CREATE INDEX idx_guest_list_user ON guest_list(user_id);
+CREATE INDEX idx_guest_list_event_id ON guest_list(event_id, id);
+CREATE INDEX idx_guest_list_event_status ON guest_list(event_id, rsvp_status, user_id) INCLUDE (checked_in);
+CREATE INDEX idx_guest_list_event_role ON guest_list(event_id, role);
+CREATE INDEX idx_guest_list_event_checked_in ON guest_list(event_id) WHERE checked_in;
+
+COMMENT ON TABLE events IS 'Events managed by event-manager-service, partitioned by event_date month';
+COMMENT ON COLUMN events.location_id IS 'References locations table in booking-service';
+COMMENT ON COLUMN events.organizer_id IS 'References users table in user-service';
+COMMENT ON COLUMN events.event_type IS 'PUBLIC events visible to all, PRIVATE only to invited guests';
+COMMENT ON TABLE guest_list IS 'Guest list and RSVP tracking for events, partitioned by event_id hash';
+COMMENT ON COLUMN guest_list.rsvp_status IS 'Guest response to invitation';
+
+ANALYZE events;
+ANALYZE guest_list;
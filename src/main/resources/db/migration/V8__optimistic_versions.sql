@@ -0,0 +1,4 @@
+-- Optimistic locking for Event and GuestList (@Version). Set-based updates that rewrite entity
+-- columns bump the version too, so a concurrent entity update fails instead of overwriting them.
+ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE guest_list ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
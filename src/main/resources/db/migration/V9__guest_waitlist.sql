@@ -0,0 +1,7 @@
+-- Accepts beyond max_attendees join a per-event waitlist (rsvp_status WAITLISTED) instead of failing.
+-- waitlisted_at orders the queue; WaitlistPromoter takes the oldest entries as seats free up.
+ALTER TABLE guest_list ADD COLUMN waitlisted_at TIMESTAMP;
+
+CREATE INDEX idx_guest_list_waitlist ON guest_list(event_id, waitlisted_at, id) WHERE rsvp_status = 'WAITLISTED';
+
+COMMENT ON COLUMN guest_list.waitlisted_at IS 'When the guest last joined the event waitlist';
@@ -0,0 +1,56 @@
+package com.planify.eventmanager.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer())
+        .build();
+
+    @Test
+    void writesWhatTheIsoFormatterWrites() throws Exception {
+        List<LocalDateTime> values = new ArrayList<>(List.of(
+            LocalDateTime.of(2026, 1, 1, 0, 0),
+            LocalDateTime.of(2026, 12, 31, 23, 59, 59),
+            LocalDateTime.of(2026, 5, 1, 18, 30, 0, 500_000_000),
+            LocalDateTime.of(2026, 5, 1, 18, 30, 0, 802_677_000),
+            LocalDateTime.of(2026, 5, 1, 18, 30, 0, 1),
+            LocalDateTime.of(2026, 5, 1, 18, 30, 0, 100_000_010),
+            LocalDateTime.of(0, 1, 1, 0, 0),
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+            LocalDateTime.of(10_000, 1, 1, 0, 0),
+            LocalDateTime.of(-1, 1, 1, 0, 0)));
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            values.add(LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000)));
+        }
+
+        for (LocalDateTime value : values) {
+            assertEquals('"' + value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + '"', mapper.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    void explicitPatternsStillApply() throws Exception {
+        record Dated(@JsonFormat(pattern = "dd.MM.yyyy HH:mm") LocalDateTime at, LocalDateTime plain) { }
+        LocalDateTime value = LocalDateTime.of(2026, 5, 1, 18, 30, 15);
+
+        assertEquals("{\"at\":\"01.05.2026 18:30\",\"plain\":\"2026-05-01T18:30:15\"}",
+            mapper.writeValueAsString(new Dated(value, value)));
+    }
+}
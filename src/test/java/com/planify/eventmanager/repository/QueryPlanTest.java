@@ -0,0 +1,342 @@
+package com.planify.eventmanager.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planify.eventmanager.dto.EventSearchFilters;
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.model.GuestList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository finder against a seeded dataset, captures the SQL Hibernate issues and
+ * checks its generic plan (the one prepared statements settle on) for sequential scans. Date-range
+ * finders and date-bounded searches are also checked to scan only the monthly events partitions their
+ * range overlaps.
+ */
+@SpringBootTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.planify.eventmanager.repository.QueryPlanTest$SqlCapture")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    // Seeded rows use organizer IDs in this range so they can be removed afterwards
+    private static final long ORGANIZER_FROM = -424_741L;
+    private static final long ORGANIZER_TO = -424_242L;
+
+    private static final AtomicInteger PLAN_IDS = new AtomicInteger();
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestListRepository guestListRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long eventId;
+
+    // events, guest_list and all their partitions
+    private Set<String> tables;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+            INSERT INTO events (title, event_date, organizer_id, location_id, max_attendees, event_type, status)
+            SELECT 'Plan check ' || n, now() + (n - 10000) * interval '1 hour', ? + n % 500, n % 1000, 100,
+                   CASE WHEN n % 3 = 0 THEN 'PUBLIC' ELSE 'PRIVATE' END,
+                   (ARRAY['DRAFT', 'PUBLISHED', 'CANCELLED', 'COMPLETED'])[1 + n % 4]
+            FROM generate_series(1, 20000) AS n
+            """, ORGANIZER_FROM);
+        jdbcTemplate.update("""
+            INSERT INTO guest_list (event_id, user_id, rsvp_status, role, checked_in)
+            SELECT e.id, u,
+                   (ARRAY['PENDING', 'ACCEPTED', 'DECLINED', 'MAYBE'])[1 + u % 4],
+                   CASE WHEN u % 50 = 0 THEN 'VIP' ELSE 'ATTENDEE' END,
+                   u % 10 = 0
+            FROM (SELECT id FROM events WHERE organizer_id BETWEEN ? AND ? ORDER BY id LIMIT 200) AS e,
+                 generate_series(1, 500) AS u
+            """, ORGANIZER_FROM, ORGANIZER_TO);
+        jdbcTemplate.execute("ANALYZE events");
+        jdbcTemplate.execute("ANALYZE guest_list");
+        eventId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM events WHERE organizer_id BETWEEN ? AND ?", Long.class, ORGANIZER_FROM, ORGANIZER_TO);
+        tables = new HashSet<>(List.of("events", "guest_list"));
+        tables.addAll(partitionsOf("events"));
+        tables.addAll(partitionsOf("guest_list"));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM guest_list WHERE event_id IN (SELECT id FROM events WHERE organizer_id BETWEEN ? AND ?)",
+            ORGANIZER_FROM, ORGANIZER_TO);
+        jdbcTemplate.update("DELETE FROM events WHERE organizer_id BETWEEN ? AND ?", ORGANIZER_FROM, ORGANIZER_TO);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> findersDoNotScanWholeTables() {
+        LocalDateTime now = LocalDateTime.now();
+        Limit page = Limit.of(51);
+        // Not listed: findByEventType(OrderByEventDateAsc), streamByEventType, findPastEvents, streamAll,
+        // streamPastEvents and findFeedEvents read a large share of the table by design, so the planner may
+        // rightly prefer a sequential scan; their paged or incremental counterparts are checked instead
+        Map<String, Runnable> finders = Map.ofEntries(
+            // EventRepository
+            Map.entry("findById", () -> eventRepository.findById(eventId)),
+            Map.entry("findByStatus", () -> eventRepository.findByStatus(Event.EventStatus.PUBLISHED)),
+            Map.entry("findByOrganizerId", () -> eventRepository.findByOrganizerId(ORGANIZER_TO)),
+            Map.entry("findSummariesByOrganizerId", () -> eventRepository.findSummariesByOrganizerId(ORGANIZER_TO)),
+            Map.entry("findIdsByOrganizerId", () -> eventRepository.findIdsByOrganizerId(ORGANIZER_TO)),
+            Map.entry("countByOrganizerId", () -> eventRepository.countByOrganizerId(ORGANIZER_TO)),
+            Map.entry("findByOrganizerIdAndStatus", () -> eventRepository.findByOrganizerIdAndStatus(ORGANIZER_TO, Event.EventStatus.PUBLISHED)),
+            Map.entry("findByEventDateBetween", () -> eventRepository.findByEventDateBetween(now, now.plusDays(1))),
+            Map.entry("findUpcomingEvents", () -> eventRepository.findUpcomingEvents(now)),
+            Map.entry("findByLocationId", () -> eventRepository.findByLocationId(7L)),
+            Map.entry("findByOrderByEventDateAscIdAsc", () -> eventRepository.findByOrderByEventDateAscIdAsc(page)),
+            Map.entry("findPageAfter", () -> eventRepository.findPageAfter(now, eventId, page)),
+            Map.entry("findPastEventsPage", () -> eventRepository.findPastEventsPage(now, page)),
+            Map.entry("findPastEventsPageBefore", () -> eventRepository.findPastEventsPageBefore(now, eventId, page)),
+            Map.entry("adjustAttendeeCount", () -> eventRepository.adjustAttendeeCount(eventId, 1)),
+            Map.entry("reserveSeat", () -> eventRepository.reserveSeat(eventId)),
+            Map.entry("findByIdForUpdate", () -> eventRepository.findByIdForUpdate(eventId)),
+            Map.entry("findByUpdatedAtGreaterThanEqual", () -> eventRepository.findByUpdatedAtGreaterThanEqual(now.minusMinutes(1))),
+            // GuestListRepository
+            Map.entry("findByEventId", () -> guestListRepository.findByEventId(eventId)),
+            Map.entry("findSummariesByEventId", () -> guestListRepository.findSummariesByEventId(eventId)),
+            Map.entry("findByUserId", () -> guestListRepository.findByUserId(42L)),
+            Map.entry("findUserEventsAfter", () -> guestListRepository.findUserEventsAfter(42L, GuestList.RsvpStatus.ACCEPTED, now, 0L, page)),
+            Map.entry("findUserEventsBefore", () -> guestListRepository.findUserEventsBefore(42L, null, now, 0L, page)),
+            Map.entry("findByEventIdAndUserId", () -> guestListRepository.findByEventIdAndUserId(eventId, 42L)),
+            Map.entry("existsByEventIdAndUserId", () -> guestListRepository.existsByEventIdAndUserId(eventId, 42L)),
+            Map.entry("findByEventIdAndRsvpStatus", () -> guestListRepository.findByEventIdAndRsvpStatus(eventId, GuestList.RsvpStatus.ACCEPTED)),
+            Map.entry("findByEventIdAndRsvpStatusOrderByWaitlistedAtAscIdAsc", () -> guestListRepository.findByEventIdAndRsvpStatusOrderByWaitlistedAtAscIdAsc(eventId, GuestList.RsvpStatus.WAITLISTED)),
+            Map.entry("countByEventIdAndRsvpStatus", () -> guestListRepository.countByEventIdAndRsvpStatus(eventId, GuestList.RsvpStatus.ACCEPTED)),
+            Map.entry("countByEventId", () -> guestListRepository.countByEventId(eventId)),
+            Map.entry("findByEventIdAndCheckedIn_True", () -> guestListRepository.findByEventIdAndCheckedIn_True(eventId)),
+            Map.entry("countByEventIdAndCheckedIn_True", () -> guestListRepository.countByEventIdAndCheckedIn_True(eventId)),
+            Map.entry("findByEventIdAndCheckedIn_False", () -> guestListRepository.findByEventIdAndCheckedIn_False(eventId)),
+            Map.entry("findByEventIdAndRole", () -> guestListRepository.findByEventIdAndRole(eventId, GuestList.GuestRole.VIP)),
+            Map.entry("findByEventIdOrderByIdAsc", () -> guestListRepository.findByEventIdOrderByIdAsc(eventId, page)),
+            Map.entry("findByEventIdAndIdGreaterThanOrderByIdAsc", () -> guestListRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(eventId, 0L, page)),
+            Map.entry("streamByEventId", () -> drain(guestListRepository.streamByEventId(eventId))));
+
+        return finders.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(finder -> DynamicTest.dynamicTest(finder.getKey(), () -> assertIndexedPlans(finder.getValue())));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> dateRangeFindersPruneEventPartitions() {
+        LocalDateTime now = LocalDateTime.now();
+        Limit page = Limit.of(51);
+        // Arguments in the order Hibernate binds them, and the event_date range each finder reads
+        record DateRangeFinder(Runnable finder, List<Object> arguments, LocalDateTime from, LocalDateTime to) { }
+        Map<String, DateRangeFinder> finders = Map.of(
+            "findByEventDateBetween", new DateRangeFinder(() -> eventRepository.findByEventDateBetween(now, now.plusDays(1)),
+                List.of(now, now.plusDays(1)), now, now.plusDays(1)),
+            "findUpcomingEvents", new DateRangeFinder(() -> eventRepository.findUpcomingEvents(now),
+                List.of(now), now, LocalDateTime.MAX),
+            "findPageAfter", new DateRangeFinder(() -> eventRepository.findPageAfter(now, eventId, page),
+                List.of(now, now, eventId, 51), now, LocalDateTime.MAX),
+            "findPastEventsPage", new DateRangeFinder(() -> eventRepository.findPastEventsPage(now, page),
+                List.of(now, 51), LocalDateTime.MIN, now),
+            "findPastEventsPageBefore", new DateRangeFinder(() -> eventRepository.findPastEventsPageBefore(now, eventId, page),
+                List.of(now, now, eventId, 51), LocalDateTime.MIN, now),
+            "findUserEventsAfter", new DateRangeFinder(() -> guestListRepository.findUserEventsAfter(42L, null, now, 0L, page),
+                List.of(42L, "NULL", now, now, 0L, 51), now, LocalDateTime.MAX));
+        Set<String> partitions = partitionsOf("events");
+
+        return finders.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(finder -> DynamicTest.dynamicTest(finder.getKey(), () -> {
+                DateRangeFinder range = finder.getValue();
+                List<String> arguments = range.arguments().stream().map(QueryPlanTest::literal).toList();
+                for (String sql : capture(range.finder())) {
+                    Set<String> scanned = new HashSet<>(scannedRelations(explainGeneric(sql, arguments)));
+                    scanned.retainAll(partitions);
+                    assertFalse(scanned.isEmpty(), () -> "No events partition scanned for: " + sql);
+                    assertTrue(scanned.size() < partitions.size(), () -> "No partition pruned for: " + sql);
+                    for (String partition : scanned) {
+                        assertTrue(overlaps(partition, range.from(), range.to()),
+                            () -> partition + " is outside " + range.from() + " - " + range.to() + " for: " + sql);
+                    }
+                }
+            }));
+    }
+
+    @Test
+    void searchUsesTextIndexAndPrunesByDate() {
+        LocalDateTime now = LocalDateTime.now();
+        String terms = "'" + EventSearchRepository.prefixQuery("check 1234") + "'";
+        // tsquery, candidate limit, cursor rank, rank and id, page limit
+        String sql = EventSearchRepository.sql(new EventSearchFilters(null, null, null, null), true);
+        // The seeded partitions are small enough that scanning them is rightly cheaper, so this only
+        // checks that the GIN index can answer the search
+        JsonNode plan = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return explainGeneric(sql, List.of(terms, "10000", "1", "1", "0", "21"));
+        });
+        List<String> seqScans = sequentialScans(plan);
+        assertTrue(seqScans.isEmpty(), () -> "Sequential scan on " + seqScans + " for: " + sql);
+
+        EventSearchFilters filters = new EventSearchFilters(Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC, now, now.plusDays(1));
+        String filtered = EventSearchRepository.sql(filters, false);
+        List<String> arguments = List.of(terms, "'PUBLISHED'", "'PUBLIC'", literal(now), literal(now.plusDays(1)), "10000", "21");
+        Set<String> scanned = new HashSet<>(scannedRelations(explainGeneric(filtered, arguments)));
+        scanned.retainAll(partitionsOf("events"));
+        assertFalse(scanned.isEmpty(), () -> "No events partition scanned for: " + filtered);
+        for (String partition : scanned) {
+            assertTrue(overlaps(partition, now, now.plusDays(1)), () -> partition + " is outside the searched range for: " + filtered);
+        }
+    }
+
+    private void assertIndexedPlans(Runnable finder) {
+        for (String sql : capture(finder)) {
+            List<String> seqScans = sequentialScans(explainGeneric(sql, null));
+            assertTrue(seqScans.isEmpty(), () -> "Sequential scan on " + seqScans + " for: " + sql);
+        }
+    }
+
+    private List<String> capture(Runnable finder) {
+        List<String> statements = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            SqlCapture.STATEMENTS.clear();
+            finder.run();
+            return List.copyOf(SqlCapture.STATEMENTS);
+        });
+        assertFalse(statements.isEmpty(), "finder issued no SQL");
+        return statements;
+    }
+
+    /**
+     * Plans {@code sql} as a generic plan and executes it with the given SQL literals. Without
+     * arguments it binds NULLs and plans every partition, since run-time pruning would drop them all.
+     */
+    private JsonNode explainGeneric(String sql, List<String> literals) {
+        String[] parts = (sql + " ").split("\\?");
+        StringBuilder numbered = new StringBuilder(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            numbered.append('$').append(i).append(parts[i]);
+        }
+        assertTrue(literals == null || literals.size() == parts.length - 1,
+            () -> "Expected " + (parts.length - 1) + " arguments for: " + sql);
+        String arguments = literals != null
+            ? String.join(", ", literals)
+            : IntStream.range(1, parts.length).mapToObj(i -> "NULL").collect(Collectors.joining(", "));
+
+        // Prepared statements outlive the transaction, so each gets its own name
+        String name = "plan_check_" + PLAN_IDS.incrementAndGet();
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+            if (literals == null) {
+                jdbcTemplate.execute("SET LOCAL enable_partition_pruning = off");
+            }
+            jdbcTemplate.execute("PREPARE " + name + " AS " + numbered);
+            String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN (FORMAT JSON) EXECUTE " + name + (arguments.isEmpty() ? "" : "(" + arguments + ")"),
+                String.class);
+            jdbcTemplate.execute("DEALLOCATE " + name);
+            try {
+                return objectMapper.readTree(plan);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not parse plan for: " + sql, e);
+            }
+        });
+    }
+
+    private Set<String> partitionsOf(String table) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT inhrelid::regclass::text FROM pg_inherits WHERE inhparent = ?::regclass", String.class, table));
+    }
+
+    // Monthly partitions are named events_YYYY_MM; the default partition may hold any date
+    private static boolean overlaps(String partition, LocalDateTime from, LocalDateTime to) {
+        if (partition.equals("events_default")) return true;
+        YearMonth month = YearMonth.parse(partition.substring("events_".length()), DateTimeFormatter.ofPattern("yyyy_MM"));
+        return month.atDay(1).atStartOfDay().isBefore(to) && month.plusMonths(1).atDay(1).atStartOfDay().isAfter(from);
+    }
+
+    private static String literal(Object value) {
+        return value instanceof LocalDateTime dateTime ? "'" + Timestamp.valueOf(dateTime) + "'" : value.toString();
+    }
+
+    private static void drain(Stream<?> rows) {
+        try (rows) {
+            rows.forEach(row -> { });
+        }
+    }
+
+    private List<String> sequentialScans(JsonNode node) {
+        List<String> found = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(child -> found.addAll(sequentialScans(child)));
+        } else if (node.isObject()) {
+            if ("Seq Scan".equals(node.path("Node Type").asText()) && tables.contains(node.path("Relation Name").asText())) {
+                found.add(node.path("Relation Name").asText());
+            }
+            node.forEach(child -> found.addAll(sequentialScans(child)));
+        }
+        return found;
+    }
+
+    private static List<String> scannedRelations(JsonNode node) {
+        List<String> found = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(child -> found.addAll(scannedRelations(child)));
+        } else if (node.isObject()) {
+            if (node.hasNonNull("Relation Name")) {
+                found.add(node.path("Relation Name").asText());
+            }
+            node.forEach(child -> found.addAll(scannedRelations(child)));
+        }
+        return found;
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.planify.eventmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CheckInSessionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 18, 0);
+
+    @Test
+    void checksInEachAcceptedGuestOnce() {
+        CheckInSession session = CheckInSession.builder(1L).add(10, false).add(20, true).add(30, false).build();
+
+        CompletableFuture<CheckInSession.Scan> first = session.checkIn(10, NOW);
+        assertFalse(first.isDone());
+        assertEquals(CheckInSession.Scan.ALREADY_CHECKED_IN, session.checkIn(10, NOW).join());
+        assertEquals(CheckInSession.Scan.ALREADY_CHECKED_IN, session.checkIn(20, NOW).join());
+        assertEquals(CheckInSession.Scan.UNKNOWN, session.checkIn(15, NOW).join());
+        assertEquals(2, session.checkedInCount());
+
+        List<CheckInSession.PendingCheckIn> batch = session.drain(100);
+        assertEquals(List.of(10L), batch.stream().map(CheckInSession.PendingCheckIn::userId).toList());
+        assertEquals(0, session.pendingCount());
+        session.complete(batch.get(0), CheckInSession.Scan.CHECKED_IN);
+        assertEquals(CheckInSession.Scan.CHECKED_IN, first.join());
+    }
+
+    @Test
+    void releasesGuestsTheWriteDidNotCheckIn() {
+        CheckInSession session = CheckInSession.builder(1L).add(10, false).add(20, false).build();
+        CompletableFuture<CheckInSession.Scan> declined = session.checkIn(10, NOW);
+        CompletableFuture<CheckInSession.Scan> failed = session.checkIn(20, NOW);
+
+        List<CheckInSession.PendingCheckIn> batch = session.drain(100);
+        session.complete(batch.get(0), CheckInSession.Scan.NOT_ACCEPTED);
+        session.fail(batch.subList(1, 2), new RuntimeException("write failed"));
+
+        assertEquals(CheckInSession.Scan.NOT_ACCEPTED, declined.join());
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(0, session.checkedInCount());
+        assertFalse(session.checkIn(20, NOW).isDone());
+    }
+
+    @Test
+    void drainsInBatches() {
+        CheckInSession.Builder builder = CheckInSession.builder(1L);
+        IntStream.rangeClosed(1, 5000).forEach(userId -> builder.add(userId, false));
+        CheckInSession session = builder.build();
+        IntStream.rangeClosed(1, 5000).forEach(userId -> session.checkIn(userId, NOW));
+
+        assertEquals(1000, session.drain(1000).size());
+        assertEquals(4000, session.pendingCount());
+        assertEquals(5000, session.guestCount());
+    }
+
+    @Test
+    void concurrentScansOfOneGuestCheckInOnce() throws Exception {
+        CheckInSession.Builder builder = CheckInSession.builder(1L);
+        IntStream.range(0, 256).forEach(userId -> builder.add(userId, false));
+        CheckInSession session = builder.build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CompletableFuture<CheckInSession.Scan>>> scans = IntStream.range(0, 64)
+                .mapToObj(i -> executor.submit(() -> session.checkIn(128, NOW)))
+                .toList();
+            long queued = 0;
+            for (Future<CompletableFuture<CheckInSession.Scan>> scan : scans) {
+                if (!scan.get().isDone()) queued++;
+            }
+            assertEquals(1, queued);
+            assertEquals(1, session.pendingCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsScansAfterClose() {
+        CheckInSession session = CheckInSession.builder(1L).add(10, false).build();
+        session.close();
+
+        assertEquals(CheckInSession.Scan.UNKNOWN, session.checkIn(10, NOW).join());
+        assertEquals(0, session.pendingCount());
+    }
+
+    @Test
+    void requiresAscendingUserIds() {
+        CheckInSession.Builder builder = CheckInSession.builder(1L).add(20, false);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(10, false));
+    }
+}
@@ -0,0 +1,112 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.dto.KeysetCursor;
+import com.planify.eventmanager.model.Event;
+import com.planify.eventmanager.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventFeedIndexTest {
+
+    // Indexed events must not have ended yet, so the feeds are read as of a month from now
+    private static final LocalDateTime NOW = LocalDateTime.now().plusMonths(1);
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventFeedIndex index =
+        new EventFeedIndex(eventRepository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), Duration.ofMinutes(1));
+
+    @Test
+    void ordersFeedsByDateThenId() {
+        index.put(event(3L, NOW.plusDays(1), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+        index.put(event(1L, NOW.plusDays(2), Event.EventStatus.PUBLISHED, Event.EventType.PRIVATE));
+        index.put(event(2L, NOW.plusDays(1), Event.EventStatus.DRAFT, Event.EventType.PUBLIC));
+        index.put(event(4L, NOW.minusDays(1), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+
+        assertEquals(List.of(4L, 3L), ids(index.publicPage(null, 10)));
+        assertEquals(List.of(3L, 1L), ids(index.upcomingPage(NOW, null, 10)));
+    }
+
+    @Test
+    void pagesAfterCursor() {
+        for (long id = 1; id <= 5; id++) {
+            index.put(event(id, NOW.plusHours(id), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+        }
+
+        assertEquals(List.of(1L, 2L), ids(index.publicPage(null, 2)));
+        assertEquals(List.of(3L, 4L), ids(index.publicPage(KeysetCursor.of(NOW.plusHours(2), 2L), 2)));
+        assertEquals(List.of(4L, 5L), ids(index.upcomingPage(NOW.plusHours(3), null, 10)));
+    }
+
+    @Test
+    void updatesMoveAndRemoveEntries() {
+        index.put(event(1L, NOW.plusDays(1), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+        index.put(event(2L, NOW.plusDays(2), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+
+        index.put(event(1L, NOW.plusDays(3), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+        assertEquals(List.of(2L, 1L), ids(index.upcomingPage(NOW, null, 10)));
+
+        index.put(event(2L, NOW.plusDays(2), Event.EventStatus.CANCELLED, Event.EventType.PUBLIC));
+        assertEquals(List.of(1L), ids(index.upcomingPage(NOW, null, 10)));
+        assertEquals(List.of(1L), ids(index.publicPage(null, 10)));
+
+        index.remove(1L);
+        assertEquals(List.of(), ids(index.publicPage(null, 10)));
+    }
+
+    @Test
+    void refreshKeepsChangesMadeWhileItRan() {
+        Event loaded = event(2L, NOW.plusDays(2), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC);
+        Event createdDuringLoad = event(3L, NOW.plusDays(3), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC);
+        when(eventRepository.findFeedEvents(any())).thenAnswer(invocation -> {
+            index.put(createdDuringLoad);
+            return List.of(loaded);
+        });
+
+        index.refreshChanged();
+        assertEquals(List.of(2L, 3L), ids(index.publicPage(null, 10)));
+
+        // Later refreshes only read what changed
+        Event cancelled = event(3L, NOW.plusDays(3), Event.EventStatus.CANCELLED, Event.EventType.PUBLIC);
+        when(eventRepository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of(cancelled));
+        index.refreshChanged();
+        assertEquals(List.of(2L), ids(index.publicPage(null, 10)));
+
+        when(eventRepository.findAllById(List.of(2L))).thenReturn(List.of());
+        index.refresh(List.of(2L));
+        assertEquals(List.of(), ids(index.publicPage(null, 10)));
+    }
+
+    @Test
+    void dropsEndedEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        index.put(event(1L, now.minusDays(1), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+        Event running = event(2L, now.plusHours(1), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC);
+        running.setEndDate(now.plusHours(5));
+        index.put(running);
+        index.put(event(3L, now.plusHours(2), Event.EventStatus.PUBLISHED, Event.EventType.PUBLIC));
+        assertEquals(List.of(2L, 3L), ids(index.publicPage(null, 10)));
+
+        index.evictEnded(now.plusHours(3));
+        assertEquals(List.of(2L), ids(index.publicPage(null, 10)));
+        assertEquals(List.of(), ids(index.upcomingPage(now.plusHours(3), null, 10)));
+    }
+
+    private static Event event(Long id, LocalDateTime eventDate, Event.EventStatus status, Event.EventType type) {
+        return Event.builder().id(id).title("Event " + id).eventDate(eventDate).organizerId(1L)
+            .status(status).eventType(type).build();
+    }
+
+    private static List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+}
@@ -0,0 +1,154 @@
+package com.planify.eventmanager.service;
+
+import com.planify.eventmanager.model.GuestList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs accepts and declines against the database concurrently and checks that an event is never
+ * overbooked and that freed seats go to waitlisted guests in the order they joined the waitlist.
+ */
+@SpringBootTest
+class WaitlistTest {
+
+    // The test event uses an organizer ID outside the range real events use, so it can be removed afterwards
+    private static final long ORGANIZER_ID = -424_800L;
+    private static final int SEATS = 5;
+    private static final List<Long> USER_IDS = LongStream.rangeClosed(1, 40).boxed().toList();
+
+    @Autowired
+    private GuestListService guestListService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long eventId;
+
+    @BeforeEach
+    void createEvent() {
+        eventId = jdbcTemplate.queryForObject("""
+            INSERT INTO events (title, event_date, organizer_id, max_attendees, event_type, status)
+            VALUES ('Waitlist check', now() + interval '30 days', ?, ?, 'PUBLIC', 'PUBLISHED')
+            RETURNING id
+            """, Long.class, ORGANIZER_ID, SEATS);
+        guestListService.inviteGuests(eventId, USER_IDS, null, null);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM guest_list WHERE event_id = ?", eventId);
+        jdbcTemplate.update("DELETE FROM event_guest_counters WHERE event_id = ?", eventId);
+        jdbcTemplate.update("DELETE FROM events WHERE id = ?", eventId);
+    }
+
+    @Test
+    void concurrentAcceptsNeverExceedCapacity() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<GuestList>> accepts = USER_IDS.stream()
+                .map(userId -> executor.submit(() -> guestListService.acceptInvitation(eventId, userId)))
+                .toList();
+            for (Future<GuestList> accept : accepts) {
+                accept.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(SEATS, countGuests(GuestList.RsvpStatus.ACCEPTED));
+        assertEquals(USER_IDS.size() - SEATS, countGuests(GuestList.RsvpStatus.WAITLISTED));
+        assertEquals(SEATS, jdbcTemplate.queryForObject("SELECT current_attendees FROM events WHERE id = ?", Integer.class, eventId));
+    }
+
+    @Test
+    void declinesPromoteInWaitlistOrder() throws Exception {
+        for (Long userId : USER_IDS) {
+            guestListService.acceptInvitation(eventId, userId);
+        }
+        List<Long> accepted = usersWithStatus(GuestList.RsvpStatus.ACCEPTED);
+        List<Long> waitlist = usersWithStatus(GuestList.RsvpStatus.WAITLISTED);
+
+        // The head of the waitlist has an RSVP change in flight while its seat is freed
+        CountDownLatch locked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> inFlight = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM guest_list WHERE event_id = ? AND user_id = ? FOR UPDATE",
+                    eventId, waitlist.get(0));
+                locked.countDown();
+                sleep(500);
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+            guestListService.declineInvitation(eventId, accepted.get(0));
+            inFlight.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        awaitAccepted(SEATS);
+        assertEquals(List.of(waitlist.get(0)), promotedFrom(waitlist));
+
+        for (int i = 1; i <= 3; i++) {
+            guestListService.declineInvitation(eventId, accepted.get(i));
+        }
+        awaitAccepted(SEATS);
+        assertEquals(waitlist.subList(0, 4), promotedFrom(waitlist));
+    }
+
+    // Helper Methods
+    private int countGuests(GuestList.RsvpStatus status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM guest_list WHERE event_id = ? AND rsvp_status = ?",
+            Integer.class, eventId, status.name());
+    }
+
+    private List<Long> usersWithStatus(GuestList.RsvpStatus status) {
+        return jdbcTemplate.queryForList(
+            "SELECT user_id FROM guest_list WHERE event_id = ? AND rsvp_status = ? ORDER BY waitlisted_at, id",
+            Long.class, eventId, status.name());
+    }
+
+    // The waitlisted guests since accepted, in waitlist order
+    private List<Long> promotedFrom(List<Long> waitlist) {
+        List<Long> accepted = usersWithStatus(GuestList.RsvpStatus.ACCEPTED);
+        List<Long> promoted = new ArrayList<>(waitlist);
+        promoted.retainAll(accepted);
+        return promoted;
+    }
+
+    // Promotions run asynchronously after the declining transaction commits
+    private void awaitAccepted(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (countGuests(GuestList.RsvpStatus.ACCEPTED) < expected && System.nanoTime() < deadline) {
+            sleep(50);
+        }
+        assertEquals(expected, countGuests(GuestList.RsvpStatus.ACCEPTED));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}